@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.trailiertales;
+
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.frozenblock.lib.config.frozenlib_config.FrozenLibConfig;
+import net.minecraft.server.level.ServerLevel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Per-level debug counters, logged and reset every {@value #LOG_INTERVAL} ticks while debug mode is on.
+ */
+public final class TTDebugMetrics {
+	private static final Map<ServerLevel, Object2LongMap<String>> COUNTS = new IdentityHashMap<>();
+	private static final int LOG_INTERVAL = 1200;
+
+	private TTDebugMetrics() {
+		throw new UnsupportedOperationException("TTDebugMetrics contains only static declarations.");
+	}
+
+	public static void init() {
+		ServerTickEvents.START_WORLD_TICK.register(level -> {
+			if (level.getGameTime() % LOG_INTERVAL != 0L) return;
+			Object2LongMap<String> counts = COUNTS.get(level);
+			if (counts == null || counts.isEmpty()) return;
+
+			if (FrozenLibConfig.IS_DEBUG) {
+				StringBuilder message = new StringBuilder("In ").append(level.dimension().location())
+					.append(" over the last ").append(LOG_INTERVAL).append(" ticks:");
+				for (Object2LongMap.Entry<String> entry : counts.object2LongEntrySet()) {
+					message.append(' ').append(entry.getLongValue()).append(' ').append(entry.getKey()).append(',');
+				}
+				message.setCharAt(message.length() - 1, '.');
+				TTConstants.log(message.toString(), true);
+			}
+			counts.clear();
+		});
+		ServerWorldEvents.UNLOAD.register((server, level) -> COUNTS.remove(level));
+	}
+
+	public static void increment(@NotNull ServerLevel level, @NotNull String name) {
+		if (!FrozenLibConfig.IS_DEBUG) return;
+		COUNTS.computeIfAbsent(level, unused -> new Object2LongLinkedOpenHashMap<>()).mergeLong(name, 1L, Long::sum);
+	}
+}
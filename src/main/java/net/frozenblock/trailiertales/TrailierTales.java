@@ -24,7 +24,11 @@ import net.frozenblock.lib.entrypoint.api.FrozenModInitializer;
 import net.frozenblock.lib.feature_flag.api.FeatureFlagApi;
 import net.frozenblock.lib.gravity.api.GravityAPI;
 import net.frozenblock.trailiertales.block.EctoplasmBlock;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinPlayerSnapshot;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinRegistry;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinTickGovernor;
 import net.frozenblock.trailiertales.datafix.trailiertales.TTDataFixer;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionAidTracker;
 import net.frozenblock.trailiertales.mod_compat.TTModIntegrations;
 import net.frozenblock.trailiertales.networking.TTNetworking;
 import net.frozenblock.trailiertales.registry.TTBlockEntityTypes;
@@ -49,6 +53,7 @@ import net.frozenblock.trailiertales.registry.TTStructureTypes;
 import net.frozenblock.trailiertales.registry.TTTrimPatterns;
 import net.frozenblock.trailiertales.registry.TTVillagerTrades;
 import net.frozenblock.trailiertales.worldgen.TTBiomeModifications;
+import net.frozenblock.trailiertales.worldgen.structure.CatacombsBoundsIndex;
 
 public class TrailierTales extends FrozenModInitializer {
 
@@ -86,6 +91,12 @@ public class TrailierTales extends FrozenModInitializer {
 		TTRuleBlockEntityModifiers.init();
 		TTVillagerTrades.init();
 		TTNetworking.init();
+		CoffinRegistry.init();
+		CoffinTickGovernor.init();
+		TTDebugMetrics.init();
+		CoffinPlayerSnapshot.init();
+		CatacombsBoundsIndex.init();
+		ApparitionAidTracker.init();
 
 		TTBlocks.registerBlockProperties();
 
@@ -21,7 +21,9 @@ package net.frozenblock.trailiertales;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.frozenblock.lib.config.frozenlib_config.FrozenLibConfig;
 import net.frozenblock.lib.debug.client.api.DebugRendererEvents;
 import net.frozenblock.lib.debug.client.impl.DebugRenderManager;
 import net.frozenblock.lib.menu.api.SplashTextAPI;
@@ -32,7 +34,7 @@ import net.frozenblock.trailiertales.client.TTParticleEngine;
 import net.frozenblock.trailiertales.client.renderer.debug.CoffinDebugRenderer;
 import net.frozenblock.trailiertales.config.TTMiscConfig;
 import net.frozenblock.trailiertales.networking.packet.CoffinDebugPacket;
-import net.frozenblock.trailiertales.networking.packet.CoffinRemoveDebugPacket;
+import net.frozenblock.trailiertales.networking.packet.CoffinDebugSubscribePacket;
 import net.frozenblock.trailiertales.worldgen.structure.datagen.CatacombsGenerator;
 import net.minecraft.util.Mth;
 
@@ -53,11 +55,18 @@ public class TrailierTalesClient implements ClientModInitializer {
 			CoffinDebugRenderer coffinDebugRenderer = new CoffinDebugRenderer(client);
 
 			ClientPlayNetworking.registerGlobalReceiver(CoffinDebugPacket.PACKET_TYPE, (packet, ctx) -> {
-				coffinDebugRenderer.addConnection(packet.entityId(), packet.coffinPos(), packet.lastInteractionTime(), packet.gameTime());
+				for (int i = 0; i < packet.removals().size(); i++) {
+					coffinDebugRenderer.scheduleRemoval(packet.removals().getInt(i));
+				}
+				for (CoffinDebugPacket.Entry entry : packet.updates()) {
+					coffinDebugRenderer.addConnection(entry.entityId(), entry.coffinPos(), entry.lastInteractionTime());
+				}
 			});
 
-			ClientPlayNetworking.registerGlobalReceiver(CoffinRemoveDebugPacket.PACKET_TYPE, (packet, ctx) -> {
-				coffinDebugRenderer.scheduleRemoval(packet.entityId());
+			ClientPlayConnectionEvents.JOIN.register((handler, sender, minecraft) -> {
+				if (FrozenLibConfig.IS_DEBUG && ClientPlayNetworking.canSend(CoffinDebugSubscribePacket.PACKET_TYPE)) {
+					sender.sendPacket(new CoffinDebugSubscribePacket(true));
+				}
 			});
 
 			DebugRenderManager.addClearRunnable(coffinDebugRenderer::clear);
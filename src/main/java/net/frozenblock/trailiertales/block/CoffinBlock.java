@@ -22,7 +22,6 @@ import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import java.util.List;
 import net.frozenblock.lib.config.frozenlib_config.FrozenLibConfig;
-import net.frozenblock.lib.networking.FrozenNetworking;
 import net.frozenblock.trailiertales.TTConstants;
 import net.frozenblock.trailiertales.block.entity.coffin.CoffinBlockEntity;
 import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
@@ -32,7 +31,8 @@ import net.frozenblock.trailiertales.block.impl.CoffinPart;
 import net.frozenblock.trailiertales.block.impl.TTBlockStateProperties;
 import net.frozenblock.trailiertales.config.TTBlockConfig;
 import net.frozenblock.trailiertales.entity.Apparition;
-import net.frozenblock.trailiertales.networking.packet.CoffinRemoveDebugPacket;
+import net.frozenblock.trailiertales.networking.CoffinDebugStreamer;
+import net.frozenblock.trailiertales.networking.ParticleBatcher;
 import net.frozenblock.trailiertales.registry.TTBlockEntityTypes;
 import net.frozenblock.trailiertales.registry.TTSounds;
 import net.minecraft.core.BlockPos;
@@ -284,11 +284,8 @@ public class CoffinBlock extends HorizontalDirectionalBlock implements EntityBlo
 	}
 
 	public static void onCoffinUntrack(@Nullable Entity entity, @Nullable CoffinSpawner coffinSpawner, boolean remove) {
-		if (FrozenLibConfig.IS_DEBUG && entity != null && !entity.isRemoved() && entity.level() instanceof ServerLevel serverLevel) {
-			FrozenNetworking.sendPacketToAllPlayers(
-				serverLevel,
-				new CoffinRemoveDebugPacket(entity.getId())
-			);
+		if (FrozenLibConfig.IS_DEBUG && entity != null && entity.level() instanceof ServerLevel serverLevel) {
+			CoffinDebugStreamer.remove(serverLevel, entity.getId());
 		}
 
 		if (entity != null) {
@@ -336,7 +333,8 @@ public class CoffinBlock extends HorizontalDirectionalBlock implements EntityBlo
 		double relativeZ = isOppositeZ ? 0D : stepZ == 0D ? 0.5D : stepZ;
 		double xOffset = Math.max(0.5D, Math.abs(stepX)) * spread;
 		double zOffset = Math.max(0.5D, Math.abs(stepZ)) * spread;
-		world.sendParticles(
+		ParticleBatcher.sendParticles(
+			world,
 			particleOptions,
 			pos.getX() + relativeX,
 			pos.getY() + 0.95D,
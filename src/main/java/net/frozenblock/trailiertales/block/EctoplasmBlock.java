@@ -22,11 +22,14 @@ import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.frozenblock.lib.block.api.shape.FrozenShapes;
 import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.impl.EctoplasmChunkInterface;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.block.HalfTransparentBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.EntityCollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
@@ -36,6 +39,19 @@ import org.jetbrains.annotations.NotNull;
 public class EctoplasmBlock extends HalfTransparentBlock {
 	public static final float APPARITION_COLLISION_FROM_SIDE = 0.25F;
 	public static final double GRAVITY_SLOWDOWN = 0.2D;
+	private static final Direction[] DIRECTIONS = Direction.values();
+	// Indexed by a mask with bit direction.ordinal() set when that neighbour is also Ectoplasm, which removes that side.
+	private static final VoxelShape[] APPARITION_COLLISION_SHAPES = Util.make(new VoxelShape[1 << DIRECTIONS.length], shapes -> {
+		for (int neighborMask = 0; neighborMask < shapes.length; neighborMask++) {
+			VoxelShape shape = Shapes.empty();
+			for (Direction direction : DIRECTIONS) {
+				if ((neighborMask & (1 << direction.ordinal())) == 0) {
+					shape = Shapes.or(shape, FrozenShapes.makePlaneFromDirection(direction, APPARITION_COLLISION_FROM_SIDE));
+				}
+			}
+			shapes[neighborMask] = shape;
+		}
+	});
 	public static final MapCodec<EctoplasmBlock> CODEC = RecordCodecBuilder.mapCodec((instance) -> instance.group(
 		propertiesCodec()
 	).apply(instance, EctoplasmBlock::new));
@@ -53,19 +69,36 @@ public class EctoplasmBlock extends HalfTransparentBlock {
 	@Override
 	@NotNull
 	public VoxelShape getCollisionShape(@NotNull BlockState blockState, @NotNull BlockGetter blockGetter, @NotNull BlockPos blockPos, @NotNull CollisionContext collisionContext) {
-		VoxelShape shape = Shapes.empty();
-
 		if (collisionContext instanceof EntityCollisionContext entityCollisionContext) {
 			if (entityCollisionContext.getEntity() instanceof Apparition) {
-				for (Direction direction : Direction.values()) {
-					if (!blockGetter.getBlockState(blockPos.relative(direction)).is(this)) {
-						shape = Shapes.or(shape, FrozenShapes.makePlaneFromDirection(direction, APPARITION_COLLISION_FROM_SIDE));
-					}
-				}
+				return APPARITION_COLLISION_SHAPES[this.getNeighborMask(blockGetter, blockPos)];
 			}
 		}
 
-		return shape;
+		return Shapes.empty();
+	}
+
+	private int getNeighborMask(@NotNull BlockGetter blockGetter, @NotNull BlockPos blockPos) {
+		BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+		int neighborMask = 0;
+		for (Direction direction : DIRECTIONS) {
+			if (blockGetter.getBlockState(mutableBlockPos.setWithOffset(blockPos, direction)).is(this)) {
+				neighborMask |= 1 << direction.ordinal();
+			}
+		}
+		return neighborMask;
+	}
+
+	public static boolean isEctoplasm(@NotNull BlockState blockState) {
+		return blockState.getBlock() instanceof EctoplasmBlock;
+	}
+
+	/**
+	 * Returns false only when the given chunk is known to hold no Ectoplasm Blocks.
+	 */
+	public static boolean chunkMayContainEctoplasm(@NotNull ChunkAccess chunk) {
+		return !(chunk instanceof EctoplasmChunkInterface ectoplasmChunkInterface)
+			|| ectoplasmChunkInterface.trailierTales$mayContainEctoplasm();
 	}
 
 	@Override
@@ -19,7 +19,9 @@
 package net.frozenblock.trailiertales.block.entity.coffin;
 
 import com.mojang.logging.LogUtils;
+import java.util.UUID;
 import net.frozenblock.trailiertales.block.CoffinBlock;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinRegistry;
 import net.frozenblock.trailiertales.block.impl.CoffinPart;
 import net.frozenblock.trailiertales.block.impl.TTBlockStateProperties;
 import net.frozenblock.trailiertales.registry.TTBlockEntityTypes;
@@ -65,6 +67,11 @@ public class CoffinBlockEntity extends RandomizableContainerBlockEntity implemen
 	private float previousOpenProgress;
 	private float openProgress;
 
+	@Nullable
+	private CoffinSpawnerState pendingState;
+	private boolean deferStateWrites;
+	private long lastStateWriteTick = Long.MIN_VALUE;
+
 	public long wobbleStartedAtTick;
 	public int coffinWobbleLidAnimTicks;
 
@@ -88,10 +95,14 @@ public class CoffinBlockEntity extends RandomizableContainerBlockEntity implemen
 		}
 
 		if (this.getBlockState().getValue(TTBlockStateProperties.COFFIN_PART) == CoffinPart.FOOT) {
+			UUID previousUUID = this.coffinSpawner.getUUID();
 			this.coffinSpawner.codec()
 				.parse(NbtOps.INSTANCE, nbt)
 				.resultOrPartial(LOGGER::error)
 				.ifPresent(coffinSpawner -> this.coffinSpawner = coffinSpawner);
+			if (this.level instanceof ServerLevel serverLevel && !previousUUID.equals(this.coffinSpawner.getUUID())) {
+				CoffinRegistry.get(serverLevel).onSpawnerUUIDChanged(this, previousUUID);
+			}
 
 			this.items = NonNullList.withSize(this.getContainerSize(), ItemStack.EMPTY);
 			if (!this.tryLoadLootTable(nbt)) ContainerHelper.loadAllItems(nbt, this.items, lookupProvider);
@@ -158,8 +169,18 @@ public class CoffinBlockEntity extends RandomizableContainerBlockEntity implemen
 
 	public void tickServer(ServerLevel world, BlockPos pos, BlockState state, CoffinPart part, boolean ominous) {
 		if (part == CoffinPart.HEAD || world.isClientSide) return;
+		if (this.coffinSpawner.isDormant(world)) {
+			this.coffinSpawner.tickDormant(world, pos, state);
+			return;
+		}
+		this.flushPendingState(world);
+		this.deferStateWrites = true;
 		this.coffinSpawner.tickServer(world, pos, state, ominous);
+		this.deferStateWrites = false;
+		this.flushPendingState(world);
 		this.coffinWobbleLidAnimTicks = Math.max(0, this.coffinWobbleLidAnimTicks - 1);
+		// A state held back for the next tick must still be written, so the coffin stays awake until it is.
+		if (this.coffinWobbleLidAnimTicks == 0 && this.pendingState == null && !this.isRemoved()) this.coffinSpawner.updateDormancy(world, pos);
 	}
 
 	public void tickClient(Level world, BlockPos pos, CoffinPart part, boolean ominous) {
@@ -223,6 +244,7 @@ public class CoffinBlockEntity extends RandomizableContainerBlockEntity implemen
 			}
 		}
 		coffinSpawner.getData().setEntityId(entityType, random);
+		coffinSpawner.wake();
 
 		Direction coffinOrientation = CoffinBlock.getCoffinOrientation(this.level, pos);
 		if (coffinOrientation != null && this.level instanceof ServerLevel serverLevel) {
@@ -257,15 +279,36 @@ public class CoffinBlockEntity extends RandomizableContainerBlockEntity implemen
 
 	@Override
 	public CoffinSpawnerState getState() {
+		if (this.pendingState != null) return this.pendingState;
+		return this.getWrittenState();
+	}
+
+	private CoffinSpawnerState getWrittenState() {
 		return !this.getBlockState().hasProperty(TTBlockStateProperties.COFFIN_STATE)
 			? CoffinSpawnerState.COOLDOWN
 			: this.getBlockState().getValue(TTBlockStateProperties.COFFIN_STATE);
 	}
 
+	/**
+	 * Coalesces state changes so the block is written at most once per tick, and not at all if the state ends up unchanged.
+	 */
 	@Override
 	public void setState(@NotNull Level level, CoffinSpawnerState state) {
 		this.setChanged();
-		level.setBlockAndUpdate(this.worldPosition, this.getBlockState().setValue(TTBlockStateProperties.COFFIN_STATE, state));
+		this.pendingState = state == this.getWrittenState() ? null : state;
+		if (!this.deferStateWrites) this.flushPendingState(level);
+	}
+
+	private void flushPendingState(@NotNull Level level) {
+		if (this.pendingState == null || this.lastStateWriteTick == level.getGameTime()) return;
+		BlockState blockState = this.getBlockState();
+		CoffinSpawnerState state = this.pendingState;
+		this.pendingState = null;
+		if (this.isRemoved() || !blockState.hasProperty(TTBlockStateProperties.COFFIN_STATE) || blockState.getValue(TTBlockStateProperties.COFFIN_STATE) == state) return;
+
+		this.lastStateWriteTick = level.getGameTime();
+		// Coffins emit no redstone signal, so neighbour updates are skipped; shape updates still carry the state to the head.
+		level.setBlock(this.worldPosition, blockState.setValue(TTBlockStateProperties.COFFIN_STATE, state), Block.UPDATE_CLIENTS);
 	}
 
 	@Override
@@ -280,6 +323,7 @@ public class CoffinBlockEntity extends RandomizableContainerBlockEntity implemen
 	public boolean triggerEvent(int type, int data) {
 		if (this.level != null && type == 1) {
 			this.wobbleStartedAtTick = this.level.getGameTime();
+			this.coffinSpawner.wake();
 			if (this.level instanceof ServerLevel serverLevel
 				&& this.getBlockState().getValue(CoffinBlock.PART) == CoffinPart.FOOT
 				&& this.coffinSpawner.getData().hasMobToSpawnAndIsntOnCooldown(this.level, this.level.random)
@@ -22,9 +22,13 @@ import com.google.common.annotations.VisibleForTesting;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import net.frozenblock.trailiertales.block.CoffinBlock;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinPlayerSnapshot;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinTickGovernor;
 import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinData;
 import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinInterface;
 import net.frozenblock.trailiertales.config.TTBlockConfig;
@@ -33,15 +37,12 @@ import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionAi;
 import net.frozenblock.trailiertales.registry.TTBlocks;
 import net.frozenblock.trailiertales.registry.TTEntityTypes;
 import net.frozenblock.trailiertales.registry.TTParticleTypes;
-import net.frozenblock.trailiertales.registry.TTResources;
 import net.frozenblock.trailiertales.registry.TTSounds;
 import net.frozenblock.trailiertales.tag.TTBlockTags;
-import net.frozenblock.trailiertales.worldgen.structure.datagen.CatacombsGenerator;
+import net.frozenblock.trailiertales.worldgen.structure.CatacombsBoundsIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.registries.Registries;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundSource;
@@ -64,25 +65,21 @@ import net.minecraft.world.level.StructureManager;
 import net.minecraft.world.level.block.entity.trialspawner.PlayerDetector;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.gameevent.GameEvent;
-import net.minecraft.world.level.levelgen.structure.BuiltinStructures;
 import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public final class CoffinSpawner {
-	private static final int PLAYER_TRACKING_DISTANCE = 48;
+	public static final int PLAYER_TRACKING_DISTANCE = 48;
 	private static final int MAX_MOB_TRACKING_DISTANCE = 64;
 	private static final int MAX_MOB_TRACKING_DISTANCE_SQR = Mth.square(MAX_MOB_TRACKING_DISTANCE);
-	public static final PlayerDetector IN_CATACOMBS_NO_CREATIVE_PLAYERS = (world, entitySelector, pos, d, bl) -> entitySelector.getPlayers(
-			world, player -> player.blockPosition().closerThan(pos, d) && !player.isCreative() && !player.isSpectator()
-		)
-		.stream()
-		.filter(player -> !bl || isInCatacombsBounds(player.blockPosition(), world.structureManager()))
-		.map(Entity::getUUID)
-		.toList();
+	private static final int DORMANT_RECHECK_INTERVAL = 20;
+	private static final int REJECTED_SPAWN_POSITION_TICKS = 10;
+	private static final int MAX_REJECTED_SPAWN_POSITIONS = 64;
 	private final CoffinSpawnerConfig normalConfig;
 	private final CoffinSpawnerConfig irritatedConfig;
 	private final CoffinSpawnerConfig aggressiveConfig;
@@ -94,27 +91,39 @@ public final class CoffinSpawner {
 	private final PlayerDetector.EntitySelector entitySelector;
 	private final UUID uuid;
 	private boolean attemptingToSpawnMob;
+	private long dormantUntil;
+	@Nullable
+	private Codec<CoffinSpawner> boundCodec;
+
+	private static final Codec<CoffinSpawner> CODEC = RecordCodecBuilder.create(
+		instance -> instance.group(
+				CoffinSpawnerConfig.CODEC.optionalFieldOf("normal_config", CoffinSpawnerConfig.DEFAULT).forGetter(CoffinSpawner::getNormalConfig),
+				CoffinSpawnerConfig.CODEC.optionalFieldOf("irritated_config", CoffinSpawnerConfig.IRRITATED).forGetter(CoffinSpawner::getIrritatedConfig),
+				CoffinSpawnerConfig.CODEC.optionalFieldOf("aggressive_config", CoffinSpawnerConfig.AGGRESSIVE).forGetter(CoffinSpawner::getAggressiveConfig),
+				CoffinSpawnerConfig.CODEC.optionalFieldOf("ominous_config", CoffinSpawnerConfig.AGGRESSIVE).forGetter(CoffinSpawner::getOminousConfig),
+				CoffinSpawnerData.MAP_CODEC.forGetter(CoffinSpawner::getData),
+				Codec.intRange(0, Integer.MAX_VALUE).optionalFieldOf("power_cooldown_length", 12000).forGetter(CoffinSpawner::getPowerCooldownLength),
+				Codec.intRange(1, PLAYER_TRACKING_DISTANCE).optionalFieldOf("required_player_range", PLAYER_TRACKING_DISTANCE).forGetter(CoffinSpawner::getRequiredPlayerRange),
+				Codec.STRING.optionalFieldOf("uuid").forGetter(coffinSpawner -> Optional.of(coffinSpawner.getStringUUID())),
+				Codec.BOOL.optionalFieldOf("attempting_to_spawn_mob", false).forGetter(CoffinSpawner::isAttemptingToSpawnMob)
+			)
+			.apply(
+				instance,
+				(config, config2, config3, config4, data, powerCooldownLength, integer, uuid, attemptingSpawn) -> new CoffinSpawner(
+					config, config2, config3, config4, data, powerCooldownLength, integer,
+					uuid.orElseGet(() -> UUID.randomUUID().toString()), attemptingSpawn, null, null
+				)
+			)
+	);
 
+	/**
+	 * Returns {@link #CODEC} bound to this spawner's accessors, built on first use so that spawners only created mid-decode never build one.
+	 */
 	public Codec<CoffinSpawner> codec() {
-		return RecordCodecBuilder.create(
-			instance -> instance.group(
-					CoffinSpawnerConfig.CODEC.optionalFieldOf("normal_config", CoffinSpawnerConfig.DEFAULT).forGetter(CoffinSpawner::getNormalConfig),
-					CoffinSpawnerConfig.CODEC.optionalFieldOf("irritated_config", CoffinSpawnerConfig.IRRITATED).forGetter(CoffinSpawner::getIrritatedConfig),
-					CoffinSpawnerConfig.CODEC.optionalFieldOf("aggressive_config", CoffinSpawnerConfig.AGGRESSIVE).forGetter(CoffinSpawner::getAggressiveConfig),
-					CoffinSpawnerConfig.CODEC.optionalFieldOf("ominous_config", CoffinSpawnerConfig.AGGRESSIVE).forGetter(CoffinSpawner::getOminousConfig),
-					CoffinSpawnerData.MAP_CODEC.forGetter(CoffinSpawner::getData),
-					Codec.intRange(0, Integer.MAX_VALUE).optionalFieldOf("power_cooldown_length", 12000).forGetter(CoffinSpawner::getPowerCooldownLength),
-					Codec.intRange(1, PLAYER_TRACKING_DISTANCE).optionalFieldOf("required_player_range", PLAYER_TRACKING_DISTANCE).forGetter(CoffinSpawner::getRequiredPlayerRange),
-					Codec.STRING.optionalFieldOf("uuid", UUID.randomUUID().toString()).forGetter(CoffinSpawner::getStringUUID),
-					Codec.BOOL.optionalFieldOf("attempting_to_spawn_mob", false).forGetter(CoffinSpawner::isAttemptingToSpawnMob)
-				)
-				.apply(
-					instance,
-					(config, config2, config3, config4, data, powerCooldownLength, integer, uuid, attemptingSpawn) -> new CoffinSpawner(
-						config, config2, config3, config4, data, powerCooldownLength, integer, uuid, attemptingSpawn, this.stateAccessor, this.entitySelector
-					)
-				)
-		);
+		if (this.boundCodec == null) {
+			this.boundCodec = CODEC.xmap(coffinSpawner -> coffinSpawner.withAccessors(this.stateAccessor, this.entitySelector), Function.identity());
+		}
+		return this.boundCodec;
 	}
 
 	public CoffinSpawner(CoffinSpawner.StateAccessor coffin, PlayerDetector.EntitySelector playerDetectionSelector) {
@@ -159,6 +168,22 @@ public final class CoffinSpawner {
 		this.entitySelector = playerDetectionSelector;
 	}
 
+	private @NotNull CoffinSpawner withAccessors(CoffinSpawner.StateAccessor coffin, PlayerDetector.EntitySelector playerDetectionSelector) {
+		return new CoffinSpawner(
+			this.normalConfig,
+			this.irritatedConfig,
+			this.aggressiveConfig,
+			this.ominousConfig,
+			this.data,
+			this.powerCooldownLength,
+			this.requiredPlayerRange,
+			this.getStringUUID(),
+			this.attemptingToSpawnMob,
+			coffin,
+			playerDetectionSelector
+		);
+	}
+
 	public CoffinSpawnerConfig getConfig() {
 		return switch (this.getState()) {
 			case OMINOUS -> this.ominousConfig;
@@ -231,6 +256,7 @@ public final class CoffinSpawner {
 
 	public void addSoulParticle(int delayUntilSpawn) {
 		this.data.soulsToSpawn.add(delayUntilSpawn);
+		this.wake();
 	}
 
 	public CoffinSpawnerState getState() {
@@ -239,16 +265,13 @@ public final class CoffinSpawner {
 
 	public void setState(Level level, CoffinSpawnerState state) {
 		this.stateAccessor.setState(level, state);
+		this.wake();
 	}
 
 	public void markUpdated() {
 		this.stateAccessor.markUpdated();
 	}
 
-	public PlayerDetector getPlayerDetector() {
-		return this.data.withinCatacombs ? IN_CATACOMBS_NO_CREATIVE_PLAYERS : PlayerDetector.NO_CREATIVE_PLAYERS;
-	}
-
 	public PlayerDetector.EntitySelector getEntitySelector() {
 		return this.entitySelector;
 	}
@@ -258,96 +281,107 @@ public final class CoffinSpawner {
 			&& (TTBlockConfig.COFFIN_IGNORE_DOMOBSPAWNING || level.getGameRules().getBoolean(GameRules.RULE_DOMOBSPAWNING));
 	}
 
-	public Optional<UUID> spawnMob(@NotNull ServerLevel level, BlockPos pos) {
+	public Optional<Entity> spawnMob(@NotNull ServerLevel level, BlockPos pos) {
 		RandomSource randomSource = level.getRandom();
 		SpawnData spawnData = this.data.getOrCreateNextSpawnData(level.getRandom());
-		CompoundTag compoundTag = spawnData.entityToSpawn();
-		ListTag listTag = compoundTag.getList("Pos", 6);
-		Optional<EntityType<?>> optional = EntityType.by(compoundTag);
-		if (optional.isEmpty()) {
+		CoffinSpawnerData.ParsedSpawnData parsedSpawnData = this.data.getParsedSpawnData(spawnData);
+		if (parsedSpawnData == null) {
 			return Optional.empty();
 		} else {
-			int i = listTag.size();
+			EntityType<?> entityType = parsedSpawnData.type();
+			double[] fixedPos = parsedSpawnData.fixedPos();
+			int i = fixedPos.length;
 			double d = i >= 1
-				? listTag.getDouble(0)
+				? fixedPos[0]
 				: (double)pos.getX() + (randomSource.nextDouble() - randomSource.nextDouble()) * (double)this.getConfig().spawnRange() + 0.5;
-			double e = i >= 2 ? listTag.getDouble(1) : (double)(pos.getY() + randomSource.nextInt(3) - 1);
+			double e = i >= 2 ? fixedPos[1] : (double)(pos.getY() + randomSource.nextInt(3) - 1);
 			double f = i >= 3
-				? listTag.getDouble(2)
+				? fixedPos[2]
 				: (double)pos.getZ() + (randomSource.nextDouble() - randomSource.nextDouble()) * (double)this.getConfig().spawnRange() + 0.5;
-			if (!level.noCollision(optional.get().getSpawnAABB(d, e, f))) {
+			Vec3 vec3 = new Vec3(d, e, f);
+			BlockPos blockPos = BlockPos.containing(vec3);
+			if (!this.isSpawnPositionValid(level, blockPos, entityType, parsedSpawnData)) {
+				return Optional.empty();
+			} else if (!level.noCollision(entityType.getSpawnAABB(d, e, f))) {
+				return Optional.empty();
+			} else if (!inLineOfSight(level, pos.getCenter(), vec3)) {
 				return Optional.empty();
 			} else {
-				Vec3 vec3 = new Vec3(d, e, f);
-				if (!inLineOfSight(level, pos.getCenter(), vec3)) {
+				int lightAtPos = level.getRawBrightness(blockPos, 0);
+				int lightToleranceDifference = Math.max(this.data.maxActiveLightLevel, lightAtPos) - this.data.maxActiveLightLevel;
+				if (lightToleranceDifference > 0 && randomSource.nextInt(lightToleranceDifference * 25) > 0) {
 					return Optional.empty();
-				} else {
-					BlockPos blockPos = BlockPos.containing(vec3);
-					if (!SpawnPlacements.checkSpawnRules(optional.get(), level, MobSpawnType.TRIAL_SPAWNER, blockPos, level.getRandom())) {
-						return Optional.empty();
-					} else {
-						if (spawnData.getCustomSpawnRules().isPresent()) {
-							SpawnData.CustomSpawnRules customSpawnRules = spawnData.getCustomSpawnRules().get();
-							if (!customSpawnRules.isValidPosition(blockPos, level)) {
-								return Optional.empty();
-							}
-						}
+				}
 
-						int lightAtPos = level.getRawBrightness(blockPos, 0);
-						int lightToleranceDifference = Math.max(this.data.maxActiveLightLevel, lightAtPos) - this.data.maxActiveLightLevel;
-						if (lightToleranceDifference > 0 && randomSource.nextInt(lightToleranceDifference * 25) > 0) {
+				Entity entity = EntityType.loadEntityRecursive(spawnData.entityToSpawn(), level, entityx -> {
+					entityx.moveTo(d, e, f, randomSource.nextFloat() * 360F, 0F);
+					return entityx;
+				});
+				if (entity == null) {
+					return Optional.empty();
+				} else {
+					if (entity instanceof Mob mob) {
+						if (!mob.checkSpawnObstruction(level)) {
 							return Optional.empty();
 						}
 
-						if (level.getBlockState(blockPos).is(TTBlockTags.COFFIN_UNSPAWNABLE_ON)) {
-							return Optional.empty();
+						if (parsedSpawnData.finalizeSpawn()) {
+							mob.finalizeSpawn(level, level.getCurrentDifficultyAt(mob.blockPosition()), MobSpawnType.TRIAL_SPAWNER, null);
 						}
 
-						Entity entity = EntityType.loadEntityRecursive(compoundTag, level, entityx -> {
-							entityx.moveTo(d, e, f, randomSource.nextFloat() * 360F, 0F);
-							return entityx;
-						});
-						if (entity == null) {
-							return Optional.empty();
-						} else {
-							if (entity instanceof Mob mob) {
-								if (!mob.checkSpawnObstruction(level)) {
-									return Optional.empty();
-								}
-
-								boolean bl = spawnData.getEntityToSpawn().size() == 1 && spawnData.getEntityToSpawn().contains("id", 8);
-								if (bl) {
-									mob.finalizeSpawn(level, level.getCurrentDifficultyAt(mob.blockPosition()), MobSpawnType.TRIAL_SPAWNER, null);
-								}
-
-								spawnData.getEquipment().ifPresent(mob::equip);
-							}
-
-							if (!level.tryAddFreshEntityWithPassengers(entity)) {
-								return Optional.empty();
-							} else {
-								level.playSound(
-									null,
-									entity,
-									TTSounds.COFFIN_SPAWN_MOB,
-									SoundSource.BLOCKS,
-									1F,
-									(randomSource.nextFloat() - randomSource.nextFloat()) * 0.2F + 1F
-								);
-								if (entity instanceof Mob mob) {
-									mob.spawnAnim();
-								}
-								level.gameEvent(entity, GameEvent.ENTITY_PLACE, blockPos);
-								this.appendCoffinSpawnAttributes(entity, level, pos, false);
-								return Optional.of(entity.getUUID());
-							}
+						spawnData.getEquipment().ifPresent(mob::equip);
+					}
+
+					if (!level.tryAddFreshEntityWithPassengers(entity)) {
+						return Optional.empty();
+					} else {
+						level.playSound(
+							null,
+							entity,
+							TTSounds.COFFIN_SPAWN_MOB,
+							SoundSource.BLOCKS,
+							1F,
+							(randomSource.nextFloat() - randomSource.nextFloat()) * 0.2F + 1F
+						);
+						if (entity instanceof Mob mob) {
+							mob.spawnAnim();
 						}
+						level.gameEvent(entity, GameEvent.ENTITY_PLACE, blockPos);
+						this.appendCoffinSpawnAttributes(entity, level, pos, false);
+						return Optional.of(entity);
 					}
 				}
 			}
 		}
 	}
 
+	/**
+	 * Runs the block-level spawn checks for a candidate position, remembering rejected positions per spawn entry for a short while.
+	 */
+	private boolean isSpawnPositionValid(
+		@NotNull ServerLevel level,
+		@NotNull BlockPos blockPos,
+		EntityType<?> entityType,
+		CoffinSpawnerData.ParsedSpawnData parsedSpawnData
+	) {
+		long gameTime = level.getGameTime();
+		Long2LongOpenHashMap rejectedSpawnPositions = parsedSpawnData.rejectedSpawnPositions();
+		long posKey = blockPos.asLong();
+		if (rejectedSpawnPositions.get(posKey) > gameTime) return false;
+
+		boolean valid = SpawnPlacements.checkSpawnRules(entityType, level, MobSpawnType.TRIAL_SPAWNER, blockPos, level.getRandom())
+			&& (parsedSpawnData.customSpawnRules().isEmpty() || parsedSpawnData.customSpawnRules().get().isValidPosition(blockPos, level))
+			&& !level.getBlockState(blockPos).is(TTBlockTags.COFFIN_UNSPAWNABLE_ON);
+		if (!valid) {
+			if (rejectedSpawnPositions.size() >= MAX_REJECTED_SPAWN_POSITIONS) {
+				rejectedSpawnPositions.long2LongEntrySet().removeIf(entry -> entry.getLongValue() <= gameTime);
+				if (rejectedSpawnPositions.size() >= MAX_REJECTED_SPAWN_POSITIONS) rejectedSpawnPositions.clear();
+			}
+			rejectedSpawnPositions.put(posKey, gameTime + REJECTED_SPAWN_POSITION_TICKS);
+		}
+		return valid;
+	}
+
 	public boolean canSpawnApparition(Level level, BlockPos pos, boolean ignoreChance) {
 		CoffinSpawnerData data = this.getData();
 		if (!data.isOnCooldown(level)
@@ -376,7 +410,7 @@ public final class CoffinSpawner {
 				apparition.hiddenTicks = 100;
 				this.appendCoffinSpawnAttributes(apparition, level, pos, true);
 				this.data.nextApparitionSpawnsAt = level.getGameTime() + 1000L;
-				this.data.currentApparitions.add(apparition.getUUID());
+				this.data.currentApparitions.add(apparition);
 			}
 		}
 	}
@@ -433,19 +467,12 @@ public final class CoffinSpawner {
 			}
 		}
 
-		Direction connectedDirection = CoffinBlock.getConnectedDirection(state);
-		if (connectedDirection != null) {
-			BlockPos connectedPos = pos.relative(connectedDirection);
-			if (world.isLoaded(connectedPos)) {
-				if (coffinOrientation == null || !world.getBlockState(connectedPos).is(TTBlocks.COFFIN)) {
-					world.destroyBlock(pos, false);
-					return;
-				}
-			}
+		if (isMissingConnectedHalf(world, pos, state, coffinOrientation)) {
+			world.destroyBlock(pos, false);
+			return;
 		}
 
-		this.data.currentMobs.removeIf(uiid -> {
-			Entity entity = world.getEntity(uiid);
+		this.data.currentMobs.removeIf(world, entity -> {
 			boolean shouldUntrack = shouldMobBeUntracked(world, pos, entity);
 			if (shouldUntrack) {
 				CoffinBlock.onCoffinUntrack(entity, this, false);
@@ -453,8 +480,7 @@ public final class CoffinSpawner {
 			return shouldUntrack;
 		});
 
-		this.data.currentApparitions.removeIf(uiid -> {
-			Entity entity = world.getEntity(uiid);
+		this.data.currentApparitions.removeIf(world, entity -> {
 			boolean shouldUntrack = shouldMobBeUntracked(world, pos, entity);
 			if (shouldUntrack) {
 				CoffinBlock.onCoffinUntrack(entity, this, true);
@@ -467,7 +493,7 @@ public final class CoffinSpawner {
 			if (this.getState() != CoffinSpawnerState.COOLDOWN) {
 				this.setState(world, CoffinSpawnerState.COOLDOWN);
 			}
-		} else {
+		} else if (CoffinTickGovernor.get(world).tryEvaluateState()) {
 			CoffinSpawnerState nextState = currentState.tickAndGetNext(pos, this, state, world);
 			if (nextState != currentState) {
 				this.setState(world, nextState);
@@ -476,8 +502,20 @@ public final class CoffinSpawner {
 		this.updateAttemptingToSpawn(world);
 	}
 
-	private static boolean shouldMobBeUntracked(@NotNull ServerLevel level, BlockPos pos, UUID uuid) {
-		return shouldMobBeUntracked(level, pos, level.getEntity(uuid));
+	/**
+	 * Breaks a dormant coffin whose other half was removed without a shape update.
+	 */
+	public void tickDormant(@NotNull ServerLevel world, BlockPos pos, @NotNull BlockState state) {
+		if (isMissingConnectedHalf(world, pos, state, state.getValue(CoffinBlock.FACING))) {
+			world.destroyBlock(pos, false);
+		}
+	}
+
+	private static boolean isMissingConnectedHalf(@NotNull ServerLevel world, BlockPos pos, BlockState state, @Nullable Direction coffinOrientation) {
+		Direction connectedDirection = CoffinBlock.getConnectedDirection(state);
+		if (connectedDirection == null) return false;
+		BlockPos connectedPos = pos.relative(connectedDirection);
+		return world.isLoaded(connectedPos) && (coffinOrientation == null || !world.getBlockState(connectedPos).is(TTBlocks.COFFIN));
 	}
 
 	private static boolean shouldMobBeUntracked(@NotNull ServerLevel level, BlockPos pos, Entity entity) {
@@ -492,8 +530,12 @@ public final class CoffinSpawner {
 		return !(blockHitResult.getBlockPos().equals(BlockPos.containing(spawnerPos)) || blockHitResult.getType() == HitResult.Type.MISS);
 	}
 
+	public static boolean isInCatacombsBounds(BlockPos pos, @NotNull ServerLevel level) {
+		return CatacombsBoundsIndex.get(level).isInCatacombsBounds(pos);
+	}
+
 	public static boolean isInCatacombsBounds(BlockPos pos, @NotNull StructureManager structureManager) {
-		ResourceKey<Structure> structureKey = TTResources.HAS_STRONGHOLD_OVERRIDE_PACK ? BuiltinStructures.STRONGHOLD : CatacombsGenerator.CATACOMBS_KEY;
+		ResourceKey<Structure> structureKey = CatacombsBoundsIndex.getCatacombsKey();
 		Structure structure = structureManager.registryAccess().registryOrThrow(Registries.STRUCTURE).get(structureKey);
 		return structure != null && structureManager.structureHasPieceAt(pos, structureManager.getStructureAt(pos, structure));
 	}
@@ -505,9 +547,42 @@ public final class CoffinSpawner {
 	}
 
 	public void immediatelyActivate(Level level, BlockPos pos) {
+		this.wake();
 		this.data.immediatelyActivate(level, pos, this);
 	}
 
+	public boolean isDormant(@NotNull Level level) {
+		return level.getGameTime() < this.dormantUntil;
+	}
+
+	public void wake() {
+		this.dormantUntil = 0L;
+	}
+
+	/**
+	 * Puts an idle coffin to sleep until its cooldown ends or, if inactive, until a player comes within range.
+	 */
+	public void updateDormancy(@NotNull ServerLevel level, BlockPos pos) {
+		this.dormantUntil = 0L;
+		CoffinSpawnerState state = this.getState();
+		if (!TTBlockConfig.COFFIN_DORMANT_TICKING
+			|| (state != CoffinSpawnerState.INACTIVE && state != CoffinSpawnerState.COOLDOWN)
+			|| this.attemptingToSpawnMob
+			|| !this.data.soulsToSpawn.isEmpty()
+			|| !this.data.haveAllCurrentMobsDied()
+			|| !this.data.haveAllCurrentApparitionsDied()
+		) return;
+
+		long gameTime = level.getGameTime();
+		if (!this.canSpawnInLevel(level)) {
+			this.dormantUntil = gameTime + DORMANT_RECHECK_INTERVAL;
+		} else if (this.data.isOnCooldown(level)) {
+			this.dormantUntil = this.data.cooldownEndsAt;
+		} else if (!CoffinPlayerSnapshot.get(level).hasPlayerInRange(pos, this.requiredPlayerRange)) {
+			this.dormantUntil = Long.MAX_VALUE;
+		}
+	}
+
 	public interface StateAccessor {
 		void setState(Level level, CoffinSpawnerState state);
 
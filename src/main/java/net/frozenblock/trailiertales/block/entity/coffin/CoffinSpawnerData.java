@@ -18,36 +18,41 @@
 
 package net.frozenblock.trailiertales.block.entity.coffin;
 
-import com.google.common.collect.Sets;
-import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicReference;
 import net.frozenblock.trailiertales.block.CoffinBlock;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinPlayerSnapshot;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.TrackedEntitySet;
 import net.frozenblock.trailiertales.entity.Apparition;
 import net.frozenblock.trailiertales.registry.TTMobEffects;
 import net.frozenblock.trailiertales.registry.TTParticleTypes;
 import net.frozenblock.trailiertales.registry.TTSounds;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.Holder;
 import net.minecraft.core.UUIDUtil;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.RandomSource;
 import net.minecraft.util.random.SimpleWeightedRandomList;
 import net.minecraft.util.random.WeightedEntry.Wrapper;
-import net.minecraft.world.effect.MobEffect;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.Entity;
@@ -59,16 +64,55 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.SpawnData;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class CoffinSpawnerData {
+	private static final int MAX_PARSED_SPAWN_DATA = 32;
+	/**
+	 * Writes a UUID set as one flat int array, while still reading the older list of int arrays.
+	 */
+	public static final Codec<Set<UUID>> PACKED_UUID_SET_CODEC = Codec.withAlternative(
+		Codec.INT_STREAM.comapFlatMap(
+			stream -> {
+				int[] ints = stream.toArray();
+				if (ints.length % 4 != 0) {
+					return DataResult.error(() -> "Packed UUID set length must be a multiple of 4, found " + ints.length);
+				}
+				Set<UUID> uuids = new HashSet<>();
+				for (int i = 0; i < ints.length; i += 4) {
+					uuids.add(
+						new UUID(
+							(long) ints[i] << 32 | ints[i + 1] & 0xFFFFFFFFL,
+							(long) ints[i + 2] << 32 | ints[i + 3] & 0xFFFFFFFFL
+						)
+					);
+				}
+				return DataResult.success(uuids);
+			},
+			uuids -> {
+				int[] ints = new int[uuids.size() * 4];
+				int i = 0;
+				for (UUID uuid : uuids) {
+					long most = uuid.getMostSignificantBits();
+					long least = uuid.getLeastSignificantBits();
+					ints[i++] = (int) (most >> 32);
+					ints[i++] = (int) most;
+					ints[i++] = (int) (least >> 32);
+					ints[i++] = (int) least;
+				}
+				return Arrays.stream(ints);
+			}
+		),
+		UUIDUtil.CODEC_SET
+	);
 	public static MapCodec<CoffinSpawnerData> MAP_CODEC = RecordCodecBuilder.mapCodec(
 		instance -> instance.group(
 				SpawnData.LIST_CODEC.optionalFieldOf("spawn_potentials", SimpleWeightedRandomList.empty()).forGetter(data -> data.spawnPotentials),
 				Codec.INT.listOf().lenientOptionalFieldOf("souls_to_spawn", new IntArrayList()).forGetter(data -> data.soulsToSpawn),
-				UUIDUtil.CODEC_SET.lenientOptionalFieldOf("potential_players", Sets.newHashSet()).forGetter(data -> data.potentialPlayers),
-				UUIDUtil.CODEC_SET.lenientOptionalFieldOf("detected_players", Sets.newHashSet()).forGetter(data -> data.detectedPlayers),
-				UUIDUtil.CODEC_SET.optionalFieldOf("current_mobs", Sets.newHashSet()).forGetter(data -> data.currentMobs),
-				UUIDUtil.CODEC_SET.optionalFieldOf("current_apparitions", Sets.newHashSet()).forGetter(data -> data.currentApparitions),
+				PACKED_UUID_SET_CODEC.lenientOptionalFieldOf("potential_players", Set.of()).forGetter(data -> data.potentialPlayers),
+				PACKED_UUID_SET_CODEC.lenientOptionalFieldOf("detected_players", Set.of()).forGetter(data -> data.detectedPlayers),
+				PACKED_UUID_SET_CODEC.optionalFieldOf("current_mobs", Set.of()).forGetter(data -> data.currentMobs.getUUIDs()),
+				PACKED_UUID_SET_CODEC.optionalFieldOf("current_apparitions", Set.of()).forGetter(data -> data.currentApparitions.getUUIDs()),
 				Codec.LONG.optionalFieldOf("power_cooldown_ends_at", 0L).forGetter(data -> data.powerCooldownEndsAt),
 				Codec.LONG.lenientOptionalFieldOf("next_mob_spawns_at", 0L).forGetter(data -> data.nextMobSpawnsAt),
 				Codec.intRange(0, Integer.MAX_VALUE).lenientOptionalFieldOf("total_mobs_spawned", 0).forGetter(data -> data.totalMobsSpawned),
@@ -86,8 +130,8 @@ public class CoffinSpawnerData {
 	protected final IntArrayList soulsToSpawn = new IntArrayList();
 	protected final Set<UUID> potentialPlayers = new HashSet<>();
 	protected final Set<UUID> detectedPlayers = new HashSet<>();
-	protected final Set<UUID> currentMobs = new HashSet<>();
-	protected final Set<UUID> currentApparitions = new HashSet<>();
+	protected final TrackedEntitySet currentMobs = new TrackedEntitySet();
+	protected final TrackedEntitySet currentApparitions = new TrackedEntitySet();
 	protected long powerCooldownEndsAt;
 	protected long nextMobSpawnsAt;
 	protected int totalMobsSpawned;
@@ -99,6 +143,7 @@ public class CoffinSpawnerData {
 	protected boolean withinCatacombs;
 	protected int maxActiveLightLevel;
 	private SimpleWeightedRandomList<SpawnData> spawnPotentials;
+	private final Map<SpawnData, ParsedSpawnData> parsedSpawnData = new IdentityHashMap<>();
 
 	public CoffinSpawnerData() {
 		this(
@@ -197,11 +242,11 @@ public class CoffinSpawnerData {
 	}
 
 	public boolean trackingEntity(@NotNull Entity entity) {
-		return this.currentMobs.contains(entity.getUUID());
+		return this.currentMobs.contains(entity);
 	}
 
 	public boolean trackingApparition(@NotNull Entity entity) {
-		return this.currentApparitions.contains(entity.getUUID());
+		return this.currentApparitions.contains(entity);
 	}
 
 	public boolean isOnCooldown(@NotNull Level level) {
@@ -245,22 +290,21 @@ public class CoffinSpawnerData {
 	}
 
 	private Optional<Player> getClosestPlayerFromSet(@NotNull Set<UUID> players, Level level, Vec3 origin) {
+		Player closestPlayer = null;
 		if (!players.isEmpty()) {
-			AtomicReference<Double> closestDistance = new AtomicReference<>(Double.MAX_VALUE);
-			AtomicReference<Optional<Player>> closestPlayer = new AtomicReference<>(Optional.empty());
-			players.forEach(uuid -> {
-				Player player = level.getPlayerByUUID(uuid);
+			double closestDistance = Double.MAX_VALUE;
+			for (UUID uuid : players) {
+				Player player = getPlayer(level, uuid);
 				if (player != null && EntitySelector.NO_CREATIVE_OR_SPECTATOR.test(player)) {
 					double distanceTo = player.distanceToSqr(origin);
-					if (distanceTo < closestDistance.get()) {
-						closestDistance.set(distanceTo);
-						closestPlayer.set(Optional.of(player));
+					if (distanceTo < closestDistance) {
+						closestDistance = distanceTo;
+						closestPlayer = player;
 					}
 				}
-			});
-			return closestPlayer.get();
+			}
 		}
-		return Optional.empty();
+		return Optional.ofNullable(closestPlayer);
 	}
 
 	public List<Player> getNearbyDetectedPlayers(Level level, Vec3 origin, double distance) {
@@ -274,47 +318,59 @@ public class CoffinSpawnerData {
 	private @NotNull List<Player> getNearbyPlayersFromSet(@NotNull Set<UUID> players, Level level, Vec3 origin, double distance) {
 		List<Player> nearbyPlayers = new ArrayList<>();
 		double squaredDistance = distance * distance;
-		if (!players.isEmpty()) {
-			players.forEach(uuid -> {
-				Player player = level.getPlayerByUUID(uuid);
-				if (player != null && EntitySelector.NO_CREATIVE_OR_SPECTATOR.test(player)) {
-					if (player.distanceToSqr(origin) < squaredDistance) {
-						nearbyPlayers.add(player);
-					}
+		for (UUID uuid : players) {
+			Player player = getPlayer(level, uuid);
+			if (player != null && EntitySelector.NO_CREATIVE_OR_SPECTATOR.test(player)) {
+				if (player.distanceToSqr(origin) < squaredDistance) {
+					nearbyPlayers.add(player);
 				}
-			});
+			}
 		}
 		return nearbyPlayers;
 	}
 
+	private static @Nullable Player getPlayer(Level level, UUID uuid) {
+		return level instanceof ServerLevel serverLevel ? CoffinPlayerSnapshot.get(serverLevel).getPlayer(uuid) : level.getPlayerByUUID(uuid);
+	}
+
 	public void tryDetectPlayers(@NotNull ServerLevel world, @NotNull BlockPos pos, Direction direction, CoffinSpawner coffinSpawner) {
 		boolean isSecondForPos = (pos.asLong() + world.getGameTime()) % 20L == 0L;
 		if (isSecondForPos) {
-			List<UUID> list = coffinSpawner.getPlayerDetector()
-				.detect(world, coffinSpawner.getEntitySelector(), pos, coffinSpawner.getRequiredPlayerRange(), this.withinCatacombs);
-			this.potentialPlayers.addAll(list);
-
-			if (!coffinSpawner.isOminous() && !list.isEmpty()) {
-				Optional<Pair<Player, Holder<MobEffect>>> optional = findPlayerWithOminousEffect(world, list);
-				optional.ifPresent(pair -> {
-					Player player = pair.getFirst();
-					if (pair.getSecond() == MobEffects.BAD_OMEN) {
-						transformBadOmenIntoSiegeOmen(player);
-					}
-					coffinSpawner.applyOminous(world);
-				});
+			List<Player> players = new ArrayList<>();
+			CoffinPlayerSnapshot.get(world).collectPlayersInRange(pos, coffinSpawner.getRequiredPlayerRange(), this.withinCatacombs, players);
+
+			Set<UUID> detectedList = new HashSet<>();
+			Player badOmenPlayer = null;
+			Player siegeOmenPlayer = null;
+			for (Player player : players) {
+				this.potentialPlayers.add(player.getUUID());
+				boolean hasSiegeOmen = player.hasEffect(TTMobEffects.SIEGE_OMEN);
+				if (hasSiegeOmen) {
+					if (siegeOmenPlayer == null) siegeOmenPlayer = player;
+				} else if (player.hasEffect(MobEffects.BAD_OMEN)) {
+					badOmenPlayer = player;
+				}
+				if (hasSiegeOmen || player.hasEffect(TTMobEffects.HAUNT)) {
+					detectedList.add(player.getUUID());
+				}
+			}
+
+			if (!coffinSpawner.isOminous() && (siegeOmenPlayer != null || badOmenPlayer != null)) {
+				if (siegeOmenPlayer == null) {
+					transformBadOmenIntoSiegeOmen(badOmenPlayer);
+					detectedList.add(badOmenPlayer.getUUID());
+				}
+				coffinSpawner.applyOminous(world);
 			}
 
-			List<UUID> detectedList = new ArrayList<>(list);
-			detectedList.removeIf(uuid -> !(world.getPlayerByUUID(uuid) instanceof Player player) || !(player.hasEffect(TTMobEffects.HAUNT) || player.hasEffect(TTMobEffects.SIEGE_OMEN)));
-			for (UUID uuid : this.currentApparitions) {
-				if (world.getEntity(uuid) instanceof Apparition apparition) {
+			this.currentApparitions.forEachLoaded(world, entity -> {
+				if (entity instanceof Apparition apparition) {
 					LivingEntity target = apparition.getTarget();
 					if (target instanceof Player player) {
 						detectedList.add(player.getUUID());
 					}
 				}
-			}
+			});
 
 			if (this.detectedPlayers.addAll(detectedList)) {
 				RandomSource randomSource = world.random;
@@ -322,28 +378,8 @@ public class CoffinSpawnerData {
 				world.playSound(null, pos, TTSounds.COFFIN_DETECT_PLAYER, SoundSource.BLOCKS, 2F, (randomSource.nextFloat() - randomSource.nextFloat()) * 0.2F + 1F);
 			}
 
-			this.detectedPlayers.removeIf(uuid -> !detectedList.contains(uuid));
-		}
-	}
-
-	private static Optional<Pair<Player, Holder<MobEffect>>> findPlayerWithOminousEffect(ServerLevel world, @NotNull List<UUID> list) {
-		Player player = null;
-
-		for (UUID uUID : list) {
-			Player player2 = world.getPlayerByUUID(uUID);
-			if (player2 != null) {
-				Holder<MobEffect> holder = TTMobEffects.SIEGE_OMEN;
-				if (player2.hasEffect(holder)) {
-					return Optional.of(Pair.of(player2, holder));
-				}
-
-				if (player2.hasEffect(MobEffects.BAD_OMEN)) {
-					player = player2;
-				}
-			}
+			this.detectedPlayers.retainAll(detectedList);
 		}
-
-		return Optional.ofNullable(player).map(playerx -> Pair.of(playerx, MobEffects.BAD_OMEN));
 	}
 
 	private static void transformBadOmenIntoSiegeOmen(@NotNull Player player) {
@@ -362,6 +398,44 @@ public class CoffinSpawnerData {
 
 	public void setEntityId(EntityType<?> type, RandomSource random) {
 		this.getOrCreateNextSpawnData(random).getEntityToSpawn().putString("id", BuiltInRegistries.ENTITY_TYPE.getKey(type).toString());
+		this.parsedSpawnData.clear();
+	}
+
+	/**
+	 * Returns the entity type, fixed position and spawn rules of a {@link SpawnData}, parsed from its NBT only once.
+	 */
+	@Nullable ParsedSpawnData getParsedSpawnData(@NotNull SpawnData spawnData) {
+		ParsedSpawnData parsed = this.parsedSpawnData.get(spawnData);
+		if (parsed == null) {
+			CompoundTag entityTag = spawnData.entityToSpawn();
+			Optional<EntityType<?>> optionalType = EntityType.by(entityTag);
+			if (optionalType.isEmpty()) return null;
+
+			ListTag posTag = entityTag.getList("Pos", Tag.TAG_DOUBLE);
+			double[] fixedPos = new double[Math.min(posTag.size(), 3)];
+			for (int i = 0; i < fixedPos.length; i++) {
+				fixedPos[i] = posTag.getDouble(i);
+			}
+			parsed = new ParsedSpawnData(
+				optionalType.get(),
+				fixedPos,
+				spawnData.getCustomSpawnRules(),
+				entityTag.size() == 1 && entityTag.contains("id", Tag.TAG_STRING),
+				new Long2LongOpenHashMap()
+			);
+			if (this.parsedSpawnData.size() >= MAX_PARSED_SPAWN_DATA) this.parsedSpawnData.clear();
+			this.parsedSpawnData.put(spawnData, parsed);
+		}
+		return parsed;
+	}
+
+	record ParsedSpawnData(
+		EntityType<?> type,
+		double[] fixedPos,
+		Optional<SpawnData.CustomSpawnRules> customSpawnRules,
+		boolean finalizeSpawn,
+		Long2LongOpenHashMap rejectedSpawnPositions
+	) {
 	}
 
 	public SimpleWeightedRandomList<SpawnData> spawnPotentials() {
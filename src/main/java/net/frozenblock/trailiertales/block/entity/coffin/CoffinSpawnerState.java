@@ -19,20 +19,18 @@
 package net.frozenblock.trailiertales.block.entity.coffin;
 
 import java.util.Optional;
-import net.frozenblock.trailiertales.TTConstants;
 import net.frozenblock.trailiertales.block.CoffinBlock;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinTickGovernor;
 import net.frozenblock.trailiertales.particle.options.GlowingDustColorTransitionOptions;
 import net.frozenblock.trailiertales.registry.TTSounds;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.ParticleOptions;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.StringRepresentable;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
-import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Vector3f;
 
@@ -48,8 +46,6 @@ public enum CoffinSpawnerState implements StringRepresentable {
 	private final boolean isCapableOfSpawning;
 	private final boolean finalWave;
 	private final Optional<ParticleOptions> emitParticle;
-	private final ResourceLocation headTexture;
-	private final ResourceLocation footTexture;
 
 	CoffinSpawnerState(final String name, int lightLevel, final boolean isCapableOfSpawning, final boolean finalWave, Optional<ParticleOptions> emitParticle) {
 		this.name = name;
@@ -57,8 +53,6 @@ public enum CoffinSpawnerState implements StringRepresentable {
 		this.isCapableOfSpawning = isCapableOfSpawning;
 		this.finalWave = finalWave;
 		this.emitParticle = emitParticle;
-		this.headTexture = getTexture(name, false);
-		this.footTexture = getTexture(name, true);
 	}
 
 	CoffinSpawnerState tickAndGetNext(BlockPos pos, @NotNull CoffinSpawner spawner, BlockState state, ServerLevel level) {
@@ -143,7 +137,7 @@ public enum CoffinSpawnerState implements StringRepresentable {
 						coffinSpawnerData.nextMobSpawnsAt = 0L;
 						coffinSpawnerData.power = 0;
 						coffinSpawnerData.powerCooldownEndsAt = 0L;
-						long cooldownTime = 36000L;
+						long cooldownTime = CoffinTickGovernor.getCooldownTicks(level);
 						coffinSpawnerData.nextApparitionSpawnsAt = level.getGameTime() + cooldownTime;
 						coffinSpawnerData.cooldownEndsAt = level.getGameTime() + cooldownTime;
 						if (coffinSpawnerData.haveAllCurrentApparitionsDied()) {
@@ -151,9 +145,11 @@ public enum CoffinSpawnerState implements StringRepresentable {
 						}
 					}
 				}
-			} else if (coffinSpawnerData.isReadyToSpawnNextMob(level, coffinSpawnerConfig, additionalPlayers)) {
-				spawner.spawnMob(level, pos).ifPresent(uuid -> {
-					coffinSpawnerData.currentMobs.add(uuid);
+			} else if (coffinSpawnerData.isReadyToSpawnNextMob(level, coffinSpawnerConfig, additionalPlayers)
+				&& CoffinTickGovernor.get(level).tryAttemptSpawn()
+			) {
+				spawner.spawnMob(level, pos).ifPresent(entity -> {
+					coffinSpawnerData.currentMobs.add(entity);
 					++coffinSpawnerData.totalMobsSpawned;
 					coffinSpawnerData.nextMobSpawnsAt = level.getGameTime() + (long)coffinSpawnerConfig.ticksBetweenSpawn();
 					coffinSpawnerData.spawnPotentials().getRandom(level.getRandom()).ifPresent(spawnData -> {
@@ -190,14 +186,6 @@ public enum CoffinSpawnerState implements StringRepresentable {
 		return this.isCapableOfSpawning;
 	}
 
-	public ResourceLocation getHeadTexture() {
-		return this.headTexture;
-	}
-
-	public ResourceLocation getFootTexture() {
-		return this.footTexture;
-	}
-
 	public CoffinSpawnerState getNextPowerState() {
 		return switch (this) {
 			case COOLDOWN, INACTIVE -> ACTIVE;
@@ -215,11 +203,6 @@ public enum CoffinSpawnerState implements StringRepresentable {
 		return this.emitParticle;
 	}
 
-	@Contract("_, _ -> new")
-	private static @NotNull ResourceLocation getTexture(String stateName, boolean foot) {
-		return TTConstants.id("textures/entity/coffin/coffin_" + (foot ? "foot_" : "head_") + stateName + ".png");
-	}
-
 	@Override
 	public @NotNull String getSerializedName() {
 		return this.name;
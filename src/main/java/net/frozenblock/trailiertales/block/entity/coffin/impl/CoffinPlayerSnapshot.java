@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.trailiertales.block.entity.coffin.impl;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The non-creative, non-spectator players of a {@link ServerLevel}, gathered once per tick and shared by its coffins.
+ */
+public final class CoffinPlayerSnapshot {
+	private static final Map<ServerLevel, CoffinPlayerSnapshot> SNAPSHOTS = new IdentityHashMap<>();
+	private static final byte UNKNOWN = 0;
+	private static final byte IN_CATACOMBS = 1;
+	private static final byte OUTSIDE_CATACOMBS = 2;
+
+	private final ServerLevel level;
+	private final List<ServerPlayer> players = new ObjectArrayList<>();
+	private final ByteArrayList catacombsStates = new ByteArrayList();
+	private final Map<UUID, ServerPlayer> playersByUUID = new HashMap<>();
+	private long gameTime = Long.MIN_VALUE;
+
+	private CoffinPlayerSnapshot(ServerLevel level) {
+		this.level = level;
+	}
+
+	public static void init() {
+		ServerWorldEvents.UNLOAD.register((server, level) -> SNAPSHOTS.remove(level));
+	}
+
+	public static @NotNull CoffinPlayerSnapshot get(@NotNull ServerLevel level) {
+		CoffinPlayerSnapshot snapshot = SNAPSHOTS.computeIfAbsent(level, CoffinPlayerSnapshot::new);
+		snapshot.refresh();
+		return snapshot;
+	}
+
+	private void refresh() {
+		long currentGameTime = this.level.getGameTime();
+		if (currentGameTime == this.gameTime) return;
+		this.gameTime = currentGameTime;
+
+		this.players.clear();
+		this.catacombsStates.clear();
+		this.playersByUUID.clear();
+		for (ServerPlayer player : this.level.players()) {
+			if (!player.isCreative() && !player.isSpectator()) {
+				this.players.add(player);
+				this.catacombsStates.add(UNKNOWN);
+				this.playersByUUID.put(player.getUUID(), player);
+			}
+		}
+	}
+
+	/**
+	 * Adds every player within {@code range} blocks of {@code pos} to {@code output}, in level order.
+	 */
+	public void collectPlayersInRange(@NotNull BlockPos pos, int range, boolean requireCatacombs, @NotNull List<Player> output) {
+		for (int i = 0; i < this.players.size(); i++) {
+			ServerPlayer player = this.players.get(i);
+			if (player.blockPosition().closerThan(pos, range) && (!requireCatacombs || this.isInCatacombs(i))) {
+				output.add(player);
+			}
+		}
+	}
+
+	public boolean hasPlayerInRange(@NotNull BlockPos pos, int range) {
+		for (ServerPlayer player : this.players) {
+			if (player.blockPosition().closerThan(pos, range)) return true;
+		}
+		return false;
+	}
+
+	public @NotNull List<ServerPlayer> getPlayers() {
+		return Collections.unmodifiableList(this.players);
+	}
+
+	private boolean isInCatacombs(int index) {
+		byte state = this.catacombsStates.getByte(index);
+		if (state == UNKNOWN) {
+			state = CoffinSpawner.isInCatacombsBounds(this.players.get(index).blockPosition(), this.level) ? IN_CATACOMBS : OUTSIDE_CATACOMBS;
+			this.catacombsStates.set(index, state);
+		}
+		return state == IN_CATACOMBS;
+	}
+
+	public @Nullable ServerPlayer getPlayer(@NotNull UUID uuid) {
+		return this.playersByUUID.get(uuid);
+	}
+}
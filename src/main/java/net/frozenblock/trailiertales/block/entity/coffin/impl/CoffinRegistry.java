@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.trailiertales.block.entity.coffin.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinBlockEntity;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
+import net.frozenblock.trailiertales.block.impl.CoffinPart;
+import net.frozenblock.trailiertales.block.impl.TTBlockStateProperties;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tracks every loaded FOOT-part {@link CoffinBlockEntity} in a {@link ServerLevel}, keyed by spawner UUID and by chunk.
+ */
+public final class CoffinRegistry {
+	private static final Map<ServerLevel, CoffinRegistry> REGISTRIES = new IdentityHashMap<>();
+	private static final int WAKE_CHUNK_RADIUS = SectionPos.blockToSectionCoord(CoffinSpawner.PLAYER_TRACKING_DISTANCE) + 1;
+
+	private final Map<UUID, CoffinBlockEntity> coffinsByUUID = new HashMap<>();
+	private final Long2ObjectMap<List<CoffinBlockEntity>> coffinsByChunk = new Long2ObjectOpenHashMap<>();
+
+	private CoffinRegistry() {
+	}
+
+	public static void init() {
+		ServerBlockEntityEvents.BLOCK_ENTITY_LOAD.register((blockEntity, level) -> {
+			if (blockEntity instanceof CoffinBlockEntity coffinBlockEntity) {
+				get(level).register(coffinBlockEntity);
+			}
+		});
+		ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register((blockEntity, level) -> {
+			if (blockEntity instanceof CoffinBlockEntity coffinBlockEntity) {
+				get(level).unregister(coffinBlockEntity);
+			}
+		});
+		ServerTickEvents.START_WORLD_TICK.register(level -> {
+			CoffinRegistry registry = REGISTRIES.get(level);
+			if (registry != null) registry.wakeCoffinsNearPlayers(level);
+		});
+		ServerWorldEvents.UNLOAD.register((server, level) -> REGISTRIES.remove(level));
+	}
+
+	public static @NotNull CoffinRegistry get(@NotNull ServerLevel level) {
+		return REGISTRIES.computeIfAbsent(level, unused -> new CoffinRegistry());
+	}
+
+	private static boolean isFoot(@NotNull CoffinBlockEntity coffinBlockEntity) {
+		BlockState state = coffinBlockEntity.getBlockState();
+		return state.hasProperty(TTBlockStateProperties.COFFIN_PART) && state.getValue(TTBlockStateProperties.COFFIN_PART) == CoffinPart.FOOT;
+	}
+
+	public void register(@NotNull CoffinBlockEntity coffinBlockEntity) {
+		if (!isFoot(coffinBlockEntity)) return;
+		this.coffinsByUUID.put(coffinBlockEntity.getCoffinSpawner().getUUID(), coffinBlockEntity);
+		List<CoffinBlockEntity> chunkCoffins = this.coffinsByChunk.computeIfAbsent(
+			ChunkPos.asLong(coffinBlockEntity.getBlockPos()),
+			unused -> new ObjectArrayList<>()
+		);
+		if (!chunkCoffins.contains(coffinBlockEntity)) chunkCoffins.add(coffinBlockEntity);
+	}
+
+	public void unregister(@NotNull CoffinBlockEntity coffinBlockEntity) {
+		this.coffinsByUUID.remove(coffinBlockEntity.getCoffinSpawner().getUUID(), coffinBlockEntity);
+		long chunkPos = ChunkPos.asLong(coffinBlockEntity.getBlockPos());
+		List<CoffinBlockEntity> chunkCoffins = this.coffinsByChunk.get(chunkPos);
+		if (chunkCoffins != null) {
+			chunkCoffins.remove(coffinBlockEntity);
+			if (chunkCoffins.isEmpty()) this.coffinsByChunk.remove(chunkPos);
+		}
+	}
+
+	/**
+	 * Re-keys a registered coffin whose spawner was replaced, e.g. when NBT is loaded into an already placed block entity.
+	 */
+	public void onSpawnerUUIDChanged(@NotNull CoffinBlockEntity coffinBlockEntity, @NotNull UUID previousUUID) {
+		if (this.coffinsByUUID.remove(previousUUID, coffinBlockEntity)) {
+			this.coffinsByUUID.put(coffinBlockEntity.getCoffinSpawner().getUUID(), coffinBlockEntity);
+		}
+	}
+
+	public @Nullable CoffinBlockEntity getCoffin(@NotNull UUID uuid, @NotNull BlockPos pos) {
+		CoffinBlockEntity coffinBlockEntity = this.coffinsByUUID.get(uuid);
+		if (coffinBlockEntity != null && coffinBlockEntity.getBlockPos().equals(pos)) return coffinBlockEntity;
+
+		// Copied coffins can share a UUID, so fall back to the coffins loaded in the expected chunk.
+		for (CoffinBlockEntity chunkCoffin : this.getCoffinsInChunk(ChunkPos.asLong(pos))) {
+			if (chunkCoffin.getBlockPos().equals(pos) && chunkCoffin.getCoffinSpawner().getUUID().equals(uuid)) {
+				return chunkCoffin;
+			}
+		}
+		return null;
+	}
+
+	public @NotNull List<CoffinBlockEntity> getCoffinsInChunk(long chunkPos) {
+		List<CoffinBlockEntity> chunkCoffins = this.coffinsByChunk.get(chunkPos);
+		return chunkCoffins == null ? Collections.emptyList() : Collections.unmodifiableList(chunkCoffins);
+	}
+
+	/**
+	 * Wakes every dormant coffin that a player has come within range of, so idle coffins need no ticking of their own.
+	 */
+	private void wakeCoffinsNearPlayers(@NotNull ServerLevel level) {
+		if (this.coffinsByChunk.isEmpty()) return;
+
+		for (ServerPlayer player : CoffinPlayerSnapshot.get(level).getPlayers()) {
+			BlockPos playerPos = player.blockPosition();
+			int chunkX = SectionPos.blockToSectionCoord(playerPos.getX());
+			int chunkZ = SectionPos.blockToSectionCoord(playerPos.getZ());
+			for (int x = chunkX - WAKE_CHUNK_RADIUS; x <= chunkX + WAKE_CHUNK_RADIUS; x++) {
+				for (int z = chunkZ - WAKE_CHUNK_RADIUS; z <= chunkZ + WAKE_CHUNK_RADIUS; z++) {
+					List<CoffinBlockEntity> chunkCoffins = this.coffinsByChunk.get(ChunkPos.asLong(x, z));
+					if (chunkCoffins == null) continue;
+					for (CoffinBlockEntity coffinBlockEntity : chunkCoffins) {
+						CoffinSpawner coffinSpawner = coffinBlockEntity.getCoffinSpawner();
+						if (coffinSpawner.isDormant(level)
+							&& playerPos.closerThan(coffinBlockEntity.getBlockPos(), coffinSpawner.getRequiredPlayerRange())
+						) {
+							coffinSpawner.wake();
+						}
+					}
+				}
+			}
+		}
+	}
+
+	public int size() {
+		return this.coffinsByUUID.size();
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.trailiertales.block.entity.coffin.impl;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.frozenblock.trailiertales.TTDebugMetrics;
+import net.frozenblock.trailiertales.config.TTBlockConfig;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.util.TimeUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Caps how many coffin state evaluations and mob spawn attempts a {@link ServerLevel} runs per tick.
+ */
+public final class CoffinTickGovernor {
+	private static final Map<ServerLevel, CoffinTickGovernor> GOVERNORS = new IdentityHashMap<>();
+	private static final float MAX_COOLDOWN_STRETCH = 2F;
+
+	private final Budget stateEvaluations = new Budget();
+	private final Budget spawnAttempts = new Budget();
+	private final ServerLevel level;
+
+	private CoffinTickGovernor(ServerLevel level) {
+		this.level = level;
+	}
+
+	public static void init() {
+		ServerTickEvents.START_WORLD_TICK.register(level -> {
+			CoffinTickGovernor governor = GOVERNORS.get(level);
+			if (governor != null) governor.startTick();
+		});
+		ServerWorldEvents.UNLOAD.register((server, level) -> GOVERNORS.remove(level));
+	}
+
+	public static @NotNull CoffinTickGovernor get(@NotNull ServerLevel level) {
+		return GOVERNORS.computeIfAbsent(level, CoffinTickGovernor::new);
+	}
+
+	/**
+	 * Returns the length of a coffin's cooldown, lengthened by how far the server is running behind if enabled.
+	 */
+	public static long getCooldownTicks(@NotNull ServerLevel level) {
+		long cooldownTicks = TTBlockConfig.COFFIN_COOLDOWN_TICKS;
+		if (!TTBlockConfig.COFFIN_STRETCH_COOLDOWN_UNDER_LOAD) return cooldownTicks;
+
+		MinecraftServer server = level.getServer();
+		float averageTickMillis = (float) server.getAverageTickTimeNanos() / TimeUtil.NANOSECONDS_PER_MILLISECOND;
+		float stretch = Mth.clamp(averageTickMillis / server.tickRateManager().millisecondsPerTick(), 1F, MAX_COOLDOWN_STRETCH);
+		return (long) (cooldownTicks * stretch);
+	}
+
+	private void startTick() {
+		this.stateEvaluations.startTick(TTBlockConfig.COFFIN_STATE_EVALUATIONS_PER_TICK);
+		this.spawnAttempts.startTick(TTBlockConfig.COFFIN_SPAWN_ATTEMPTS_PER_TICK);
+	}
+
+	public boolean tryEvaluateState() {
+		if (this.stateEvaluations.tryConsume(TTBlockConfig.COFFIN_STATE_EVALUATIONS_PER_TICK)) return true;
+		TTDebugMetrics.increment(this.level, "deferred coffin state evaluations");
+		return false;
+	}
+
+	public boolean tryAttemptSpawn() {
+		if (this.spawnAttempts.tryConsume(TTBlockConfig.COFFIN_SPAWN_ATTEMPTS_PER_TICK)) return true;
+		TTDebugMetrics.increment(this.level, "deferred coffin spawn attempts");
+		return false;
+	}
+
+	// Admits a window of requests by arrival order that moves forward by the limit each tick.
+	private static final class Budget {
+		private int cursor;
+		private int demand;
+		private int lastDemand;
+		private int used;
+
+		private void startTick(int limit) {
+			this.lastDemand = this.demand;
+			this.cursor = limit > 0 && this.lastDemand > limit ? (this.cursor + limit) % this.lastDemand : 0;
+			this.demand = 0;
+			this.used = 0;
+		}
+
+		private boolean tryConsume(int limit) {
+			int position = this.demand++;
+			if (limit <= 0) return true;
+
+			// Last tick's demand fit in the budget, so anyone may take what is left.
+			boolean inWindow = this.lastDemand <= limit || Math.floorMod(position - this.cursor, this.lastDemand) < limit;
+			if (inWindow && this.used < limit) {
+				this.used++;
+				return true;
+			}
+			return false;
+		}
+	}
+}
@@ -21,12 +21,11 @@ package net.frozenblock.trailiertales.block.entity.coffin.impl;
 import java.util.Optional;
 import java.util.UUID;
 import net.frozenblock.lib.config.frozenlib_config.FrozenLibConfig;
-import net.frozenblock.lib.networking.FrozenNetworking;
 import net.frozenblock.trailiertales.block.CoffinBlock;
 import net.frozenblock.trailiertales.block.entity.coffin.CoffinBlockEntity;
 import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
 import net.frozenblock.trailiertales.entity.Apparition;
-import net.frozenblock.trailiertales.networking.packet.CoffinDebugPacket;
+import net.frozenblock.trailiertales.networking.CoffinDebugStreamer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
@@ -43,6 +42,8 @@ public class EntityCoffinData {
 	private final BlockPos pos;
 	private final UUID coffinUUID;
 	private long lastInteractionAt;
+	@Nullable
+	private CoffinBlockEntity coffinHandle;
 
 	public EntityCoffinData(BlockPos pos, UUID coffinUUID, long lastInteractionAt) {
 		this.pos = pos;
@@ -71,10 +72,7 @@ public class EntityCoffinData {
 				CoffinBlock.onCoffinUntrack(entity, null, true);
 			} else {
 				if (FrozenLibConfig.IS_DEBUG) {
-					FrozenNetworking.sendPacketToAllPlayers(
-						serverLevel,
-						new CoffinDebugPacket(entity.getId(), this.lastInteractionAt, this.pos, gameTime)
-					);
+					CoffinDebugStreamer.update(serverLevel, entity, this.lastInteractionAt, this.pos);
 				}
 				if (entity instanceof Mob mob) {
 					if (optionalCoffinSpawner.get().isOminous()) {
@@ -88,6 +86,9 @@ public class EntityCoffinData {
 	}
 
 	public Optional<CoffinSpawner> getSpawner(@NotNull Level level) {
+		if (level instanceof ServerLevel serverLevel) {
+			return Optional.ofNullable(this.getCoffinHandle(serverLevel)).map(CoffinBlockEntity::getCoffinSpawner);
+		}
 		if (level.isLoaded(this.getPos())) {
 			if (level.getBlockEntity(this.getPos()) instanceof CoffinBlockEntity coffinBlockEntity) {
 				if (coffinBlockEntity.getCoffinSpawner().getUUID().equals(this.getCoffinUUID())) {
@@ -98,6 +99,22 @@ public class EntityCoffinData {
 		return Optional.empty();
 	}
 
+	/**
+	 * Returns the cached coffin, resolving it through the {@link CoffinRegistry} again only once the handle is invalidated.
+	 */
+	private @Nullable CoffinBlockEntity getCoffinHandle(@NotNull ServerLevel level) {
+		CoffinBlockEntity coffinBlockEntity = this.coffinHandle;
+		if (coffinBlockEntity == null
+			|| coffinBlockEntity.isRemoved()
+			|| coffinBlockEntity.getLevel() != level
+			|| !coffinBlockEntity.getCoffinSpawner().getUUID().equals(this.coffinUUID)
+		) {
+			coffinBlockEntity = CoffinRegistry.get(level).getCoffin(this.coffinUUID, this.pos);
+			this.coffinHandle = coffinBlockEntity;
+		}
+		return coffinBlockEntity;
+	}
+
 	@VisibleForDebug
 	public Optional<CoffinSpawner> getSpawnerIgnoringUUID(@NotNull Level level) {
 		if (level.isLoaded(this.getPos())) {
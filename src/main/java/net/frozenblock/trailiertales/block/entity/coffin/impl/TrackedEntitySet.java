@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.trailiertales.block.entity.coffin.impl;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A set of entities tracked by a coffin, persisted by UUID but resolved to cached entity handles.
+ */
+public final class TrackedEntitySet {
+	private final Map<UUID, Entry> entriesByUUID = new HashMap<>();
+	private final Int2ObjectMap<Entry> entriesById = new Int2ObjectOpenHashMap<>();
+
+	public void add(@NotNull Entity entity) {
+		Entry entry = this.entriesByUUID.computeIfAbsent(entity.getUUID(), Entry::new);
+		this.bind(entry, entity);
+	}
+
+	public void addAll(@NotNull Collection<UUID> uuids) {
+		for (UUID uuid : uuids) {
+			this.entriesByUUID.computeIfAbsent(uuid, Entry::new);
+		}
+	}
+
+	public boolean contains(@NotNull Entity entity) {
+		Entry entry = this.entriesById.get(entity.getId());
+		if (entry != null && entry.get() == entity) return true;
+		return this.entriesByUUID.containsKey(entity.getUUID());
+	}
+
+	public int size() {
+		return this.entriesByUUID.size();
+	}
+
+	public boolean isEmpty() {
+		return this.entriesByUUID.isEmpty();
+	}
+
+	public void clear() {
+		this.entriesByUUID.clear();
+		this.entriesById.clear();
+	}
+
+	public @NotNull Set<UUID> getUUIDs() {
+		return Collections.unmodifiableSet(this.entriesByUUID.keySet());
+	}
+
+	/**
+	 * Removes every entry the predicate accepts. Entries that no longer resolve to a loaded entity are tested as {@code null}.
+	 */
+	public void removeIf(@NotNull ServerLevel level, @NotNull Predicate<@Nullable Entity> predicate) {
+		Iterator<Entry> iterator = this.entriesByUUID.values().iterator();
+		while (iterator.hasNext()) {
+			Entry entry = iterator.next();
+			if (predicate.test(this.resolve(level, entry))) {
+				iterator.remove();
+				if (entry.id != Entry.UNRESOLVED_ID) this.entriesById.remove(entry.id, entry);
+			}
+		}
+	}
+
+	public void forEachLoaded(@NotNull ServerLevel level, @NotNull Consumer<Entity> consumer) {
+		for (Entry entry : this.entriesByUUID.values()) {
+			Entity entity = this.resolve(level, entry);
+			if (entity != null) consumer.accept(entity);
+		}
+	}
+
+	private @Nullable Entity resolve(@NotNull ServerLevel level, @NotNull Entry entry) {
+		Entity entity = entry.get();
+		if (entity != null && !entity.isRemoved() && entity.level() == level) return entity;
+
+		Entity loadedEntity = level.getEntity(entry.uuid);
+		if (loadedEntity != null) {
+			this.bind(entry, loadedEntity);
+		} else if (entity != null) {
+			this.entriesById.remove(entry.id, entry);
+			entry.clear();
+		}
+		return loadedEntity;
+	}
+
+	private void bind(@NotNull Entry entry, @NotNull Entity entity) {
+		if (entry.id != Entry.UNRESOLVED_ID) this.entriesById.remove(entry.id, entry);
+		entry.set(entity);
+		this.entriesById.put(entry.id, entry);
+	}
+
+	private static final class Entry {
+		private static final int UNRESOLVED_ID = -1;
+		private final UUID uuid;
+		private @Nullable WeakReference<Entity> entity;
+		private int id = UNRESOLVED_ID;
+
+		private Entry(UUID uuid) {
+			this.uuid = uuid;
+		}
+
+		private @Nullable Entity get() {
+			return this.entity == null ? null : this.entity.get();
+		}
+
+		private void set(@NotNull Entity entity) {
+			this.entity = new WeakReference<>(entity);
+			this.id = entity.getId();
+		}
+
+		private void clear() {
+			this.entity = null;
+			this.id = UNRESOLVED_ID;
+		}
+	}
+}
@@ -20,13 +20,20 @@ package net.frozenblock.trailiertales.client;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.client.particle.v1.ParticleFactoryRegistry;
+import net.frozenblock.trailiertales.TTConstants;
+import net.frozenblock.trailiertales.networking.packet.ParticleBatchPacket;
 import net.frozenblock.trailiertales.particle.GlowingColorBubbleParticle;
 import net.frozenblock.trailiertales.particle.GlowingColorTransitionParticle;
 import net.frozenblock.trailiertales.particle.GlowingSpellParticle;
 import net.frozenblock.trailiertales.particle.provider.TTParticleProviders;
 import net.frozenblock.trailiertales.registry.TTParticleTypes;
+import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.SoulParticle;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.util.RandomSource;
+import org.jetbrains.annotations.NotNull;
 
 @Environment(EnvType.CLIENT)
 public class TTParticleEngine {
@@ -42,5 +49,53 @@ public class TTParticleEngine {
 		particleRegistry.register(TTParticleTypes.SUSPICIOUS_CONNECTION, TTParticleProviders.SuspiciousConnectionProvider::new);
 		particleRegistry.register(TTParticleTypes.SIEGE_OMEN, GlowingSpellParticle.Provider::new);
 		particleRegistry.register(TTParticleTypes.TRANSFIGURING, GlowingSpellParticle.Provider::new);
+
+		ClientPlayNetworking.registerGlobalReceiver(ParticleBatchPacket.PACKET_TYPE, (packet, ctx) -> {
+			ClientLevel level = ctx.client().level;
+			if (level != null) spawnParticleBatch(level, packet);
+		});
+	}
+
+	/**
+	 * Expands each emission of a {@link ParticleBatchPacket} the same way a vanilla particle packet is handled.
+	 */
+	private static void spawnParticleBatch(@NotNull ClientLevel level, @NotNull ParticleBatchPacket packet) {
+		RandomSource random = level.getRandom();
+		for (ParticleBatchPacket.Group group : packet.groups()) {
+			ParticleOptions options = group.options();
+			try {
+				for (ParticleBatchPacket.Emission emission : group.emissions()) {
+					if (emission.count() == 0) {
+						double speed = emission.speed();
+						level.addParticle(
+							options,
+							false,
+							emission.x(),
+							emission.y(),
+							emission.z(),
+							speed * emission.xDist(),
+							speed * emission.yDist(),
+							speed * emission.zDist()
+						);
+						continue;
+					}
+
+					for (int i = 0; i < emission.count(); i++) {
+						level.addParticle(
+							options,
+							false,
+							emission.x() + random.nextGaussian() * emission.xDist(),
+							emission.y() + random.nextGaussian() * emission.yDist(),
+							emission.z() + random.nextGaussian() * emission.zDist(),
+							random.nextGaussian() * emission.speed(),
+							random.nextGaussian() * emission.speed(),
+							random.nextGaussian() * emission.speed()
+						);
+					}
+				}
+			} catch (Throwable throwable) {
+				TTConstants.LOGGER.warn("Could not spawn particle effect {}", options);
+			}
+		}
 	}
 }
@@ -23,6 +23,7 @@ import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.frozenblock.trailiertales.TTConstants;
 import net.frozenblock.trailiertales.block.CoffinBlock;
 import net.frozenblock.trailiertales.block.entity.coffin.CoffinBlockEntity;
 import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawnerState;
@@ -40,6 +41,8 @@ import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider.Context;
 import net.minecraft.client.renderer.blockentity.BrightnessCombiner;
+import net.minecraft.client.renderer.texture.TextureAtlas;
+import net.minecraft.client.resources.model.Material;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
@@ -53,6 +56,8 @@ import org.jetbrains.annotations.Nullable;
 public class CoffinRenderer implements BlockEntityRenderer<CoffinBlockEntity> {
 	private static final String BASE = "base";
 	private static final String LID = "lid";
+	private static final Material[] HEAD_MATERIALS = createMaterials(false);
+	private static final Material[] FOOT_MATERIALS = createMaterials(true);
 	private final ModelPart headRoot;
 	private final ModelPart headBase;
 	private final ModelPart headLid;
@@ -86,9 +91,24 @@ public class CoffinRenderer implements BlockEntityRenderer<CoffinBlockEntity> {
 		return LayerDefinition.create(modelData, 64, 64);
 	}
 
+	/**
+	 * Coffin textures are stitched onto the block atlas, so every coffin renders into the same buffer regardless of its state.
+	 */
+	private static Material[] createMaterials(boolean foot) {
+		CoffinSpawnerState[] states = CoffinSpawnerState.values();
+		Material[] materials = new Material[states.length];
+		for (CoffinSpawnerState state : states) {
+			materials[state.ordinal()] = new Material(
+				TextureAtlas.LOCATION_BLOCKS,
+				TTConstants.id("entity/coffin/coffin_" + (foot ? "foot_" : "head_") + state.getSerializedName())
+			);
+		}
+		return materials;
+	}
+
 	@NotNull
-	public static ResourceLocation getCoffinTexture(@NotNull CoffinPart part, CoffinSpawnerState state, boolean ominous) {
-		return part == CoffinPart.HEAD ? state.getHeadTexture() : state.getFootTexture();
+	public static Material getCoffinMaterial(@NotNull CoffinPart part, @NotNull CoffinSpawnerState state, boolean ominous) {
+		return (part == CoffinPart.HEAD ? HEAD_MATERIALS : FOOT_MATERIALS)[state.ordinal()];
 	}
 
 
@@ -137,7 +157,7 @@ public class CoffinRenderer implements BlockEntityRenderer<CoffinBlockEntity> {
 				buffer,
 				part == CoffinPart.HEAD ? this.headRoot : this.footRoot,
 				part == CoffinPart.HEAD ? this.headLid : this.footLid,
-				getCoffinTexture(part, coffinSpawnerState, false),
+				getCoffinMaterial(part, coffinSpawnerState, false),
 				null,
 				openProg,
 				i,
@@ -149,8 +169,8 @@ public class CoffinRenderer implements BlockEntityRenderer<CoffinBlockEntity> {
 			poseStack.translate(0.5D, 0.5D, 0.5D);
 			poseStack.mulPose(Axis.YP.rotationDegrees(-f));
 			poseStack.translate(-0.5D, -0.5D, -0.5D);
-			this.renderPiece(poseStack, buffer, this.headRoot, this.headLid, CoffinSpawnerState.ACTIVE.getHeadTexture(), null, 0F, packedLight, packedOverlay, false);
-			this.renderPiece(poseStack, buffer, this.footRoot, this.footLid, CoffinSpawnerState.ACTIVE.getFootTexture(), null, 0F, packedLight, packedOverlay, true);
+			this.renderPiece(poseStack, buffer, this.headRoot, this.headLid, getCoffinMaterial(CoffinPart.HEAD, CoffinSpawnerState.ACTIVE, false), null, 0F, packedLight, packedOverlay, false);
+			this.renderPiece(poseStack, buffer, this.footRoot, this.footLid, getCoffinMaterial(CoffinPart.FOOT, CoffinSpawnerState.ACTIVE, false), null, 0F, packedLight, packedOverlay, true);
 		}
 		poseStack.popPose();
 	}
@@ -160,7 +180,7 @@ public class CoffinRenderer implements BlockEntityRenderer<CoffinBlockEntity> {
 		MultiBufferSource bufferSource,
 		@NotNull ModelPart modelPart,
 		@NotNull ModelPart lid,
-		@NotNull ResourceLocation texture,
+		@NotNull Material material,
 		@Nullable ResourceLocation glowingTexture,
 		float openProgress,
 		int packedLight,
@@ -172,7 +192,7 @@ public class CoffinRenderer implements BlockEntityRenderer<CoffinBlockEntity> {
 			poseStack.translate(0F, 0F, -1F);
 		}
 		lid.zRot = (openProgress * 1.5707964F);
-		VertexConsumer vertexConsumer = bufferSource.getBuffer(RenderType.entityCutout(texture));
+		VertexConsumer vertexConsumer = material.buffer(bufferSource, RenderType::entityCutout);
 		modelPart.render(poseStack, vertexConsumer, packedLight, packedOverlay);
 		if (glowingTexture != null) {
 			VertexConsumer glowingConsumer = bufferSource.getBuffer(RenderType.eyes(glowingTexture));
@@ -18,26 +18,34 @@
 
 package net.frozenblock.trailiertales.client.renderer.debug;
 
-import com.google.common.collect.Maps;
+import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
-import java.util.Map;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.util.UUID;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.debug.client.impl.DebugRenderManager;
 import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinData;
+import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.culling.Frustum;
 import net.minecraft.client.renderer.debug.DebugRenderer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.FastColor;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
 
 @Environment(EnvType.CLIENT)
 public class CoffinDebugRenderer implements DebugRenderer.SimpleDebugRenderer {
@@ -45,87 +53,114 @@ public class CoffinDebugRenderer implements DebugRenderer.SimpleDebugRenderer {
 	private static final int SELECTED_CONNECTION_COLOR = FastColor.ARGB32.color(255, 255, 50, 255);
 	private static final int TEXT_COLOR = FastColor.ARGB32.color(255, 255, 255, 255);
 	private final Minecraft minecraft;
-	private final IntArrayList scheduledRemovals = new IntArrayList();
-	private final Map<Integer, EntityCoffinData> connections = Maps.newHashMap();
-	@Nullable
-	private Integer lastLookedAtId;
-	private long gameTime;
+	private final Int2ObjectMap<Connection> connections = new Int2ObjectOpenHashMap<>();
+	// Removals in the order they were received, each stamped so a connection re-added afterward survives the removal.
+	private final IntArrayFIFOQueue scheduledRemovals = new IntArrayFIFOQueue();
+	private final LongArrayFIFOQueue scheduledRemovalStamps = new LongArrayFIFOQueue();
+	private long stamp;
+	private int lastLookedAtId = -1;
 
 	public CoffinDebugRenderer(Minecraft client) {
 		this.minecraft = client;
 	}
 
-	private void clearRemovedEntities() {
-		this.connections.entrySet().removeIf(entry -> {
-			int id = entry.getKey();
-			if (scheduledRemovals.contains(id)) return true;
-			Entity entity = this.minecraft.level.getEntity(id);
-			return entity == null || entity.isRemoved();
-		});
+	private void processScheduledRemovals() {
+		while (!this.scheduledRemovals.isEmpty()) {
+			int id = this.scheduledRemovals.dequeueInt();
+			long removalStamp = this.scheduledRemovalStamps.dequeueLong();
+			Connection connection = this.connections.get(id);
+			if (connection != null && connection.stamp < removalStamp) this.connections.remove(id);
+		}
 	}
 
-	public void addConnection(int entityId, BlockPos coffinPos, long lastInteractionTime, long gameTime) {
-		this.connections.put(entityId, new EntityCoffinData(coffinPos, UUID.randomUUID(), lastInteractionTime));
-		this.gameTime = gameTime;
+	public void addConnection(int entityId, BlockPos coffinPos, long lastInteractionTime) {
+		this.connections.put(entityId, new Connection(new EntityCoffinData(coffinPos, UUID.randomUUID(), lastInteractionTime), this.stamp++));
 	}
 
 	public void scheduleRemoval(int entityId) {
-		scheduledRemovals.add(entityId);
+		this.scheduledRemovals.enqueue(entityId);
+		this.scheduledRemovalStamps.enqueue(this.stamp++);
 	}
 
 	@Override
 	public void clear() {
 		this.connections.clear();
 		this.scheduledRemovals.clear();
-		this.lastLookedAtId = null;
+		this.scheduledRemovalStamps.clear();
+		this.lastLookedAtId = -1;
 	}
 
 	@Override
 	public void render(PoseStack matrices, @NotNull MultiBufferSource vertexConsumers, double cameraX, double cameraY, double cameraZ) {
-		this.clearRemovedEntities();
-		this.scheduledRemovals.removeIf(id -> true);
+		this.processScheduledRemovals();
+		if (this.connections.isEmpty()) return;
 
 		if (!this.minecraft.player.isSpectator()) {
-			this.updateLastLookedAtUuid();
+			this.updateLastLookedAtId();
 		}
 
-		for (Map.Entry<Integer, EntityCoffinData> connectionInfo : this.connections.entrySet()) {
-			EntityCoffinData coffinData = connectionInfo.getValue();
-			boolean selected = false;
-			Integer id = connectionInfo.getKey();
-			if (id != null) {
-				Entity entity = this.minecraft.level.getEntity(id);
-				if (entity != null) {
-					if (id.equals(this.lastLookedAtId)) {
-						selected = true;
-						highlightPos(matrices, vertexConsumers, coffinData.getPos());
-						Vec3 entityTextPos = entity.getEyePosition(DebugRenderManager.PARTIAL_TICK);
-						renderTextOverPos(matrices, vertexConsumers, entity.getDisplayName().getString(), entityTextPos, 3, TEXT_COLOR);
-						renderTextOverPos(
-							matrices,
-							vertexConsumers,
-							"Last Interaction: " + (this.gameTime - coffinData.lastInteraction()),
-							entityTextPos,
-							2,
-							TEXT_COLOR
-						);
-					}
-					drawLine(
-						matrices,
-						vertexConsumers,
-						cameraX, cameraY, cameraZ,
-						entity.getEyePosition(DebugRenderManager.PARTIAL_TICK), Vec3.atCenterOf(coffinData.getPos()),
-						selected ? SELECTED_CONNECTION_COLOR : CONNECTION_COLOR
-					);
-				}
+		Frustum frustum = createFrustum(this.minecraft.gameRenderer.getMainCamera(), cameraX, cameraY, cameraZ);
+		long gameTime = this.minecraft.level.getGameTime();
+		ObjectIterator<Int2ObjectMap.Entry<Connection>> iterator = Int2ObjectMaps.fastIterator(this.connections);
+		while (iterator.hasNext()) {
+			Int2ObjectMap.Entry<Connection> connectionInfo = iterator.next();
+			int id = connectionInfo.getIntKey();
+			Entity entity = this.minecraft.level.getEntity(id);
+			if (entity == null || entity.isRemoved()) {
+				iterator.remove();
+				continue;
+			}
+
+			EntityCoffinData coffinData = connectionInfo.getValue().coffinData;
+			BlockPos coffinPos = coffinData.getPos();
+			Vec3 entityEyePos = entity.getEyePosition(DebugRenderManager.PARTIAL_TICK);
+			AABB connectionBox = new AABB(
+				Math.min(entityEyePos.x, coffinPos.getX()), Math.min(entityEyePos.y, coffinPos.getY()), Math.min(entityEyePos.z, coffinPos.getZ()),
+				Math.max(entityEyePos.x, coffinPos.getX() + 1D), Math.max(entityEyePos.y, coffinPos.getY() + 1D), Math.max(entityEyePos.z, coffinPos.getZ() + 1D)
+			).inflate(1D);
+			if (!frustum.isVisible(connectionBox)) continue;
+
+			boolean selected = id == this.lastLookedAtId;
+			if (selected) {
+				highlightPos(matrices, vertexConsumers, coffinPos);
+				renderTextOverPos(matrices, vertexConsumers, entity.getDisplayName().getString(), entityEyePos, 3, TEXT_COLOR);
+				renderTextOverPos(
+					matrices,
+					vertexConsumers,
+					"Last Interaction: " + (gameTime - coffinData.lastInteraction()),
+					entityEyePos,
+					2,
+					TEXT_COLOR
+				);
 			}
+			drawLine(
+				matrices,
+				vertexConsumers,
+				cameraX, cameraY, cameraZ,
+				entityEyePos, Vec3.atCenterOf(coffinPos),
+				selected ? SELECTED_CONNECTION_COLOR : CONNECTION_COLOR
+			);
 		}
 	}
 
-	private void updateLastLookedAtUuid() {
+	private void updateLastLookedAtId() {
 		DebugRenderer.getTargetedEntity(this.minecraft.getCameraEntity(), 8).ifPresent(entity -> this.lastLookedAtId = entity.getId());
 	}
 
+	/**
+	 * Rebuilds the view frustum the same way the level renderer does, since debug renderers are not handed it.
+	 */
+	private static @NotNull Frustum createFrustum(@NotNull Camera camera, double cameraX, double cameraY, double cameraZ) {
+		Matrix4f viewRotation = new Matrix4f().rotationXYZ(
+			camera.getXRot() * Mth.DEG_TO_RAD,
+			camera.getYRot() * Mth.DEG_TO_RAD + Mth.PI,
+			0F
+		);
+		Frustum frustum = new Frustum(viewRotation, RenderSystem.getProjectionMatrix());
+		frustum.prepare(cameraX, cameraY, cameraZ);
+		return frustum;
+	}
+
 	private static void highlightPos(PoseStack matrices, MultiBufferSource vertexConsumers, BlockPos pos) {
 		DebugRenderer.renderFilledBox(matrices, vertexConsumers, pos, 0.05F, 0.2F, 0.2F, 1.0F, 0.3F);
 		renderTextOverPos(matrices, vertexConsumers, "Coffin", pos.getCenter(), 0, TEXT_COLOR);
@@ -150,4 +185,7 @@ public class CoffinDebugRenderer implements DebugRenderer.SimpleDebugRenderer {
 		double g = pos.y + (double)offsetY * 0.2;
 		DebugRenderer.renderFloatingText(matrices, vertexConsumers, string, pos.x, g, pos.z, color, 0.02F, true, 0.0F, true);
 	}
+
+	private record Connection(EntityCoffinData coffinData, long stamp) {
+	}
 }
@@ -47,6 +47,11 @@ public final class TTBlockConfig {
 			public void onSync(TTBlockConfig syncInstance) {
 				var config = this.config();
 				COFFIN_IGNORE_DOMOBSPAWNING = config.coffin.ignore_do_mob_spawning_gamerule;
+				COFFIN_DORMANT_TICKING = config.coffin.dormant_ticking;
+				COFFIN_COOLDOWN_TICKS = config.coffin.cooldown_ticks;
+				COFFIN_STATE_EVALUATIONS_PER_TICK = config.coffin.state_evaluations_per_tick;
+				COFFIN_SPAWN_ATTEMPTS_PER_TICK = config.coffin.spawn_attempts_per_tick;
+				COFFIN_STRETCH_COOLDOWN_UNDER_LOAD = config.coffin.stretch_cooldown_under_load;
 				SMOOTH_SUSPICIOUS_BLOCK_ANIMATIONS = config.suspiciousBlocks.smooth_animations;
 				SUSPICIOUS_BLOCK_PARTICLES = config.suspiciousBlocks.particle;
 			}
@@ -54,6 +59,11 @@ public final class TTBlockConfig {
 	);
 
 	public static volatile boolean COFFIN_IGNORE_DOMOBSPAWNING = false;
+	public static volatile boolean COFFIN_DORMANT_TICKING = true;
+	public static volatile int COFFIN_COOLDOWN_TICKS = 36000;
+	public static volatile int COFFIN_STATE_EVALUATIONS_PER_TICK = 64;
+	public static volatile int COFFIN_SPAWN_ATTEMPTS_PER_TICK = 8;
+	public static volatile boolean COFFIN_STRETCH_COOLDOWN_UNDER_LOAD = true;
 	public static volatile boolean SMOOTH_SUSPICIOUS_BLOCK_ANIMATIONS = true;
 	public static volatile boolean SUSPICIOUS_BLOCK_PARTICLES = false;
 
@@ -88,6 +98,16 @@ public final class TTBlockConfig {
 		public boolean wobble_potion = false;
 		@EntrySyncData(value = "wobble_experience_bottle")
 		public boolean wobble_experience_bottle = false;
+		@EntrySyncData(value = "dormant_ticking")
+		public boolean dormant_ticking = true;
+		@EntrySyncData(value = "cooldown_ticks")
+		public int cooldown_ticks = 36000;
+		@EntrySyncData(value = "state_evaluations_per_tick")
+		public int state_evaluations_per_tick = 64;
+		@EntrySyncData(value = "spawn_attempts_per_tick")
+		public int spawn_attempts_per_tick = 8;
+		@EntrySyncData(value = "stretch_cooldown_under_load")
+		public boolean stretch_cooldown_under_load = true;
 	}
 
 	public static class BlockSounds {
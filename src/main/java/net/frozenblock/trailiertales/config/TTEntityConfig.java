@@ -57,6 +57,20 @@ public final class TTEntityConfig {
 	public static class Apparition {
 		@EntrySyncData(value = "ignore_mob_griefing")
 		public boolean ignore_mob_griefing = false;
+		@EntrySyncData(value = "sensor_scheduling")
+		public boolean sensor_scheduling = true;
+		@EntrySyncData(value = "sensor_near_distance")
+		public int sensor_near_distance = 32;
+		@EntrySyncData(value = "sensor_far_distance")
+		public int sensor_far_distance = 64;
+		@EntrySyncData(value = "sensor_freeze_distance")
+		public int sensor_freeze_distance = 128;
+		@EntrySyncData(value = "sensor_mid_interval")
+		public int sensor_mid_interval = 2;
+		@EntrySyncData(value = "sensor_far_interval")
+		public int sensor_far_interval = 4;
+		@EntrySyncData(value = "walk_target_cache_ticks")
+		public int walk_target_cache_ticks = 100;
 	}
 
 	public static class Sniffer {
@@ -57,6 +57,9 @@ public final class TTMiscConfig {
 	@EntrySyncData(value = "modify_advancements")
 	public boolean modify_advancements = true;
 
+	@EntrySyncData(value = "coffin_debug_send_interval")
+	public int coffin_debug_send_interval = 5;
+
 	@EntrySyncData(value = "distortedCatacombsMusic", behavior = SyncBehavior.UNSYNCABLE)
 	public boolean distortedCatacombsMusic = true;
 
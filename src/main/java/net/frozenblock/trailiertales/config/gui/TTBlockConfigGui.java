@@ -151,10 +151,67 @@ public final class TTBlockConfigGui {
 			configInstance
 		);
 
+		var coffinDormantTicking = FrozenClothConfig.syncedEntry(
+			entryBuilder.startBooleanToggle(TTConstants.text("coffin_dormant_ticking"), modifiedCoffin.dormant_ticking)
+				.setDefaultValue(defaultConfig.coffin.dormant_ticking)
+				.setSaveConsumer(newValue -> coffin.dormant_ticking = newValue)
+				.setTooltip(TTConstants.tooltip("coffin_dormant_ticking"))
+				.build(),
+			coffin.getClass(),
+			"dormant_ticking",
+			configInstance
+		);
+
+		var coffinCooldownTicks = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntField(TTConstants.text("coffin_cooldown_ticks"), modifiedCoffin.cooldown_ticks)
+				.setMin(0)
+				.setDefaultValue(defaultConfig.coffin.cooldown_ticks)
+				.setSaveConsumer(newValue -> coffin.cooldown_ticks = newValue)
+				.setTooltip(TTConstants.tooltip("coffin_cooldown_ticks"))
+				.build(),
+			coffin.getClass(),
+			"cooldown_ticks",
+			configInstance
+		);
+
+		var coffinStateEvaluationsPerTick = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(TTConstants.text("coffin_state_evaluations_per_tick"), modifiedCoffin.state_evaluations_per_tick, 0, 256)
+				.setDefaultValue(defaultConfig.coffin.state_evaluations_per_tick)
+				.setSaveConsumer(newValue -> coffin.state_evaluations_per_tick = newValue)
+				.setTooltip(TTConstants.tooltip("coffin_state_evaluations_per_tick"))
+				.build(),
+			coffin.getClass(),
+			"state_evaluations_per_tick",
+			configInstance
+		);
+
+		var coffinSpawnAttemptsPerTick = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(TTConstants.text("coffin_spawn_attempts_per_tick"), modifiedCoffin.spawn_attempts_per_tick, 0, 64)
+				.setDefaultValue(defaultConfig.coffin.spawn_attempts_per_tick)
+				.setSaveConsumer(newValue -> coffin.spawn_attempts_per_tick = newValue)
+				.setTooltip(TTConstants.tooltip("coffin_spawn_attempts_per_tick"))
+				.build(),
+			coffin.getClass(),
+			"spawn_attempts_per_tick",
+			configInstance
+		);
+
+		var coffinStretchCooldownUnderLoad = FrozenClothConfig.syncedEntry(
+			entryBuilder.startBooleanToggle(TTConstants.text("coffin_stretch_cooldown_under_load"), modifiedCoffin.stretch_cooldown_under_load)
+				.setDefaultValue(defaultConfig.coffin.stretch_cooldown_under_load)
+				.setSaveConsumer(newValue -> coffin.stretch_cooldown_under_load = newValue)
+				.setTooltip(TTConstants.tooltip("coffin_stretch_cooldown_under_load"))
+				.build(),
+			coffin.getClass(),
+			"stretch_cooldown_under_load",
+			configInstance
+		);
+
 		var coffinCategory = FrozenClothConfig.createSubCategory(entryBuilder, category, TTConstants.text("coffin"),
 			false,
 			TTConstants.tooltip("coffin"),
-			ignoreDoMobSpawningGamerule,
+			ignoreDoMobSpawningGamerule, coffinDormantTicking,
+			coffinCooldownTicks, coffinStretchCooldownUnderLoad, coffinStateEvaluationsPerTick, coffinSpawnAttemptsPerTick,
 			coffinWobble, coffinWobbleActivate, coffinWobbleExperienceBottle, coffinWobbleLoot, coffinWobblePotion
 		);
 
@@ -54,10 +54,89 @@ public final class TTEntityConfigGui {
 			configInstance
 		);
 
+		var sensorScheduling = FrozenClothConfig.syncedEntry(
+			entryBuilder.startBooleanToggle(TTConstants.text("apparition_sensor_scheduling"), modifiedApparition.sensor_scheduling)
+				.setDefaultValue(defaultConfig.apparition.sensor_scheduling)
+				.setSaveConsumer(newValue -> apparition.sensor_scheduling = newValue)
+				.setTooltip(TTConstants.tooltip("apparition_sensor_scheduling"))
+				.build(),
+			apparition.getClass(),
+			"sensor_scheduling",
+			configInstance
+		);
+
+		var sensorNearDistance = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(TTConstants.text("apparition_sensor_near_distance"), modifiedApparition.sensor_near_distance, 0, 256)
+				.setDefaultValue(defaultConfig.apparition.sensor_near_distance)
+				.setSaveConsumer(newValue -> apparition.sensor_near_distance = newValue)
+				.setTooltip(TTConstants.tooltip("apparition_sensor_near_distance"))
+				.build(),
+			apparition.getClass(),
+			"sensor_near_distance",
+			configInstance
+		);
+
+		var sensorFarDistance = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(TTConstants.text("apparition_sensor_far_distance"), modifiedApparition.sensor_far_distance, 0, 256)
+				.setDefaultValue(defaultConfig.apparition.sensor_far_distance)
+				.setSaveConsumer(newValue -> apparition.sensor_far_distance = newValue)
+				.setTooltip(TTConstants.tooltip("apparition_sensor_far_distance"))
+				.build(),
+			apparition.getClass(),
+			"sensor_far_distance",
+			configInstance
+		);
+
+		var sensorFreezeDistance = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(TTConstants.text("apparition_sensor_freeze_distance"), modifiedApparition.sensor_freeze_distance, 0, 512)
+				.setDefaultValue(defaultConfig.apparition.sensor_freeze_distance)
+				.setSaveConsumer(newValue -> apparition.sensor_freeze_distance = newValue)
+				.setTooltip(TTConstants.tooltip("apparition_sensor_freeze_distance"))
+				.build(),
+			apparition.getClass(),
+			"sensor_freeze_distance",
+			configInstance
+		);
+
+		var sensorMidInterval = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(TTConstants.text("apparition_sensor_mid_interval"), modifiedApparition.sensor_mid_interval, 1, 20)
+				.setDefaultValue(defaultConfig.apparition.sensor_mid_interval)
+				.setSaveConsumer(newValue -> apparition.sensor_mid_interval = newValue)
+				.setTooltip(TTConstants.tooltip("apparition_sensor_mid_interval"))
+				.build(),
+			apparition.getClass(),
+			"sensor_mid_interval",
+			configInstance
+		);
+
+		var sensorFarInterval = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(TTConstants.text("apparition_sensor_far_interval"), modifiedApparition.sensor_far_interval, 1, 20)
+				.setDefaultValue(defaultConfig.apparition.sensor_far_interval)
+				.setSaveConsumer(newValue -> apparition.sensor_far_interval = newValue)
+				.setTooltip(TTConstants.tooltip("apparition_sensor_far_interval"))
+				.build(),
+			apparition.getClass(),
+			"sensor_far_interval",
+			configInstance
+		);
+
+		var walkTargetCacheTicks = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(TTConstants.text("apparition_walk_target_cache_ticks"), modifiedApparition.walk_target_cache_ticks, 0, 1200)
+				.setDefaultValue(defaultConfig.apparition.walk_target_cache_ticks)
+				.setSaveConsumer(newValue -> apparition.walk_target_cache_ticks = newValue)
+				.setTooltip(TTConstants.tooltip("apparition_walk_target_cache_ticks"))
+				.build(),
+			apparition.getClass(),
+			"walk_target_cache_ticks",
+			configInstance
+		);
+
 		var apparitionCategory = FrozenClothConfig.createSubCategory(entryBuilder, category, TTConstants.text("apparition"),
 			false,
 			TTConstants.tooltip("apparition"),
-			ignore_mob_griefing
+			ignore_mob_griefing,
+			sensorScheduling, sensorNearDistance, sensorFarDistance, sensorFreezeDistance, sensorMidInterval, sensorFarInterval,
+			walkTargetCacheTicks
 		);
 
 		var sniffer = config.sniffer;
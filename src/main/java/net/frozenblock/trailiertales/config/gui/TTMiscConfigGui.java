@@ -67,5 +67,18 @@ public final class TTMiscConfigGui {
 				configInstance
 			)
 		);
+
+		var coffinDebugSendInterval = category.addEntry(
+			FrozenClothConfig.syncedEntry(
+				entryBuilder.startIntSlider(TTConstants.text("coffin_debug_send_interval"), modifiedConfig.coffin_debug_send_interval, 1, 40)
+					.setDefaultValue(defaultConfig.coffin_debug_send_interval)
+					.setSaveConsumer(newValue -> config.coffin_debug_send_interval = newValue)
+					.setTooltip(TTConstants.tooltip("coffin_debug_send_interval"))
+					.build(),
+				config.getClass(),
+				"coffin_debug_send_interval",
+				configInstance
+			)
+		);
 	}
 }
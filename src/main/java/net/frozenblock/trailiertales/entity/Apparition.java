@@ -20,11 +20,14 @@ package net.frozenblock.trailiertales.entity;
 
 import com.mojang.serialization.Dynamic;
 import java.util.Arrays;
+import net.frozenblock.lib.config.frozenlib_config.FrozenLibConfig;
 import net.frozenblock.lib.wind.api.WindDisturbingEntity;
-import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
+import net.frozenblock.trailiertales.TTDebugMetrics;
 import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinInterface;
 import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionAi;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionWalkTargetCache;
 import net.frozenblock.trailiertales.mod_compat.FrozenLibIntegration;
+import net.frozenblock.trailiertales.networking.ParticleBatcher;
 import net.frozenblock.trailiertales.particle.options.GlowingDustColorTransitionOptions;
 import net.frozenblock.trailiertales.registry.TTMemoryModuleTypes;
 import net.frozenblock.trailiertales.registry.TTSounds;
@@ -101,9 +104,13 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 	private static final EntityDataAccessor<Boolean> HIDING = SynchedEntityData.defineId(Apparition.class, EntityDataSerializers.BOOLEAN);
 
 	private final SimpleContainer inventory = new SimpleContainer(1);
+	private final ApparitionWalkTargetCache walkTargetCache = new ApparitionWalkTargetCache();
 	private float transparency;
 	private float outerTransparency;
 	public int hiddenTicks;
+	@Nullable
+	private ItemStack lastVisibleStack;
+	private int lastVisibleCount;
 
 	//CLIENT VARIABLES
 	private float prevTransparency;
@@ -247,7 +254,7 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 
 		if (this instanceof EntityCoffinInterface entityCoffinInterface) {
 			if (entityCoffinInterface.trailierTales$getCoffinData() != null && level instanceof ServerLevel serverLevel) {
-				boolean withinCatacombs = CoffinSpawner.isInCatacombsBounds(pos, serverLevel.structureManager());
+				boolean withinCatacombs = this.walkTargetCache.isInCatacombsBounds(serverLevel, pos);
 				if (withinCatacombs) {
 					punishmentValue = 0F;
 				}
@@ -294,6 +301,20 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 		this.getEntityData().set(ITEM_STACK, itemStack);
 	}
 
+	// Copying and comparing the held stack every tick is wasteful, so it is only published when the slot's stack or count changes.
+	private void updateVisibleItem() {
+		ItemStack itemStack = this.inventory.getItems().getFirst();
+		if (itemStack == this.lastVisibleStack && itemStack.getCount() == this.lastVisibleCount) {
+			if (FrozenLibConfig.IS_DEBUG && this.level() instanceof ServerLevel serverLevel) {
+				TTDebugMetrics.increment(serverLevel, "skipped Apparition visible item updates");
+			}
+			return;
+		}
+		this.lastVisibleStack = itemStack;
+		this.lastVisibleCount = itemStack.getCount();
+		this.setVisibleItem(itemStack.copy());
+	}
+
 	@Override
 	public boolean canPickUpLoot() {
 		return !this.isOnPickupCooldown();
@@ -408,7 +429,7 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 			if (isHidden != hiding) {
 				this.refreshDimensions();
 			}
-			this.setVisibleItem(this.inventory.getItems().getFirst().copy());
+			this.updateVisibleItem();
 		} else {
 			this.prevTransparency = this.transparency;
 			this.prevOuterTransparency = this.outerTransparency;
@@ -613,7 +634,7 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 		this.setAidAnimProgress(nbt.getFloat("AidAnimProgress"));
 		this.setPoltergeistAnimProgress(nbt.getFloat("PoltergeistAnimProgress"));
 		this.setHiding(nbt.getBoolean("Hiding"));
-		this.setVisibleItem(this.inventory.getItems().getFirst().copy());
+		this.updateVisibleItem();
 	}
 
 	@Override
@@ -691,7 +712,8 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 
 	public void spawnParticles(int count, ParticleOptions particleOptions) {
 		if (this.level() instanceof ServerLevel level) {
-			level.sendParticles(
+			ParticleBatcher.sendParticles(
+				level,
 				particleOptions,
 				this.getX(),
 				this.getY(0.6666666666666666D),
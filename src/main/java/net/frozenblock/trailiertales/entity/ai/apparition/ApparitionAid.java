@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.networking.ParticleBatcher;
 import net.frozenblock.trailiertales.registry.TTMemoryModuleTypes;
 import net.frozenblock.trailiertales.registry.TTParticleTypes;
 import net.frozenblock.trailiertales.registry.TTSounds;
@@ -39,8 +40,19 @@ import net.minecraft.world.entity.ai.behavior.Behavior;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.memory.MemoryStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class ApparitionAid extends Behavior<Apparition> {
+	private static final double REPATH_DISTANCE_SQR = 1D;
+	private static final int REPATH_COOLDOWN_TICKS = 10;
+	@Nullable
+	private List<LivingEntity> trackedAidables;
+	@Nullable
+	private LivingEntity pathTarget;
+	private double pathTargetX;
+	private double pathTargetY;
+	private double pathTargetZ;
+	private long nextRepathAt;
 
 	@VisibleForTesting
 	public ApparitionAid() {
@@ -74,13 +86,9 @@ public class ApparitionAid extends Behavior<Apparition> {
 		Brain<Apparition> brain = apparition.getBrain();
 		apparition.playSound(TTSounds.APPARITION_AID, apparition.getSoundVolume(), apparition.getVoicePitch());
 		brain.setMemory(TTMemoryModuleTypes.AIDING_TIME, 61);
-		List<UUID> trackingUUIDs = new ArrayList<>();
-		brain.getMemory(TTMemoryModuleTypes.NEARBY_AIDABLES).ifPresent(nearbyAidables -> {
-			nearbyAidables.forEach(aidable -> trackingUUIDs.add(aidable.getUUID()));
-		});
-		if (!trackingUUIDs.isEmpty()) {
-			brain.setMemory(TTMemoryModuleTypes.AIDING_ENTITIES, trackingUUIDs);
-		}
+		this.trackedAidables = null;
+		this.pathTarget = null;
+		brain.getMemory(TTMemoryModuleTypes.NEARBY_AIDABLES).ifPresent(nearbyAidables -> this.updateAidingEntities(world, apparition, nearbyAidables));
 	}
 
 	@Override
@@ -88,7 +96,46 @@ public class ApparitionAid extends Behavior<Apparition> {
 		Brain<Apparition> brain = apparition.getBrain();
 		brain.setMemoryWithExpiry(TTMemoryModuleTypes.AID_COOLDOWN, Unit.INSTANCE, 200L);
 		brain.eraseMemory(TTMemoryModuleTypes.AIDING_ENTITIES);
+		ApparitionAidTracker.get(world).clearAidedEntities(apparition);
 		apparition.setAidAnimProgress(0F);
+		this.trackedAidables = null;
+		this.pathTarget = null;
+	}
+
+	/**
+	 * Refreshes the aided entities from the sensed aidables, skipping the rebuild while the sensor hasn't produced a new list.
+	 */
+	private void updateAidingEntities(ServerLevel world, @NotNull Apparition apparition, @NotNull List<LivingEntity> aidables) {
+		if (aidables == this.trackedAidables) return;
+		this.trackedAidables = aidables;
+		if (aidables.isEmpty()) return;
+
+		List<UUID> trackingUUIDs = new ArrayList<>(aidables.size());
+		aidables.forEach(aidable -> trackingUUIDs.add(aidable.getUUID()));
+		apparition.getBrain().setMemory(TTMemoryModuleTypes.AIDING_ENTITIES, trackingUUIDs);
+		ApparitionAidTracker.get(world).setAidedEntities(apparition, trackingUUIDs);
+	}
+
+	/**
+	 * Repaths only when the nearest aidable changes, or once per cooldown if it moved away or the path was lost.
+	 */
+	private void moveTowards(@NotNull Apparition apparition, @NotNull LivingEntity aidable, long gameTime) {
+		double targetY = aidable.getEyeY() + 0.5D;
+		if (aidable == this.pathTarget) {
+			if (gameTime < this.nextRepathAt) return;
+			double xDifference = aidable.getX() - this.pathTargetX;
+			double yDifference = targetY - this.pathTargetY;
+			double zDifference = aidable.getZ() - this.pathTargetZ;
+			boolean targetMoved = xDifference * xDifference + yDifference * yDifference + zDifference * zDifference >= REPATH_DISTANCE_SQR;
+			if (!targetMoved && !apparition.getNavigation().isDone()) return;
+		}
+
+		apparition.getNavigation().moveTo(aidable.getX(), targetY, aidable.getZ(), 0, 1.25D);
+		this.pathTarget = aidable;
+		this.pathTargetX = aidable.getX();
+		this.pathTargetY = targetY;
+		this.pathTargetZ = aidable.getZ();
+		this.nextRepathAt = gameTime + REPATH_COOLDOWN_TICKS;
 	}
 
 	public static final ParticleOptions BUBBLE_PARTICLE = ColorParticleOption.create(TTParticleTypes.GLOWING_BUBBLE, 162F / 255F, 181F/ 255F, 217F / 255F);
@@ -98,14 +145,11 @@ public class ApparitionAid extends Behavior<Apparition> {
 	protected void tick(ServerLevel world, @NotNull Apparition apparition, long l) {
 		Brain<Apparition> brain = apparition.getBrain();
 		List<LivingEntity> entities = brain.getMemory(TTMemoryModuleTypes.NEARBY_AIDABLES).orElse(ImmutableList.of());
-		List<UUID> trackingUUIDs = new ArrayList<>();
-		entities.forEach(aidable -> trackingUUIDs.add(aidable.getUUID()));
-		if (!trackingUUIDs.isEmpty()) {
-			brain.setMemory(TTMemoryModuleTypes.AIDING_ENTITIES, trackingUUIDs);
-		} else {
+		if (entities.isEmpty()) {
 			this.doStop(world, apparition, l);
 			return;
 		}
+		this.updateAidingEntities(world, apparition, entities);
 
 		int aidingTime = brain.getMemory(TTMemoryModuleTypes.AIDING_TIME).orElse(0);
 		if (aidingTime > 1) {
@@ -115,7 +159,7 @@ public class ApparitionAid extends Behavior<Apparition> {
 			if (nearestAidable != null) {
 				brain.eraseMemory(MemoryModuleType.WALK_TARGET);
 				brain.eraseMemory(MemoryModuleType.LOOK_TARGET);
-				apparition.getNavigation().moveTo(nearestAidable.getX(), nearestAidable.getEyeY() + 0.5D, nearestAidable.getZ(), 0, 1.25D);
+				this.moveTowards(apparition, nearestAidable, l);
 			}
 		} else if (aidingTime == 1) {
 			brain.getMemory(MemoryModuleType.ATTACK_TARGET).ifPresent(attackTarget -> entities.forEach(livingEntity -> {
@@ -131,7 +175,8 @@ public class ApparitionAid extends Behavior<Apparition> {
 	}
 
 	private static void spawnParticles(@NotNull ServerLevel level, @NotNull LivingEntity entity, int count, ParticleOptions particleOptions) {
-		level.sendParticles(
+		ParticleBatcher.sendParticles(
+			level,
 			particleOptions,
 			entity.getX(),
 			entity.getY(0.6666666666666666D),
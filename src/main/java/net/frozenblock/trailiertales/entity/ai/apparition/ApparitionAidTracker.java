@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.trailiertales.entity.ai.apparition;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.minecraft.server.level.ServerLevel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Tracks the loaded Apparitions of a {@link ServerLevel} and the entities each of them is aiding, in both directions.
+ */
+public final class ApparitionAidTracker {
+	private static final Map<ServerLevel, ApparitionAidTracker> TRACKERS = new IdentityHashMap<>();
+
+	private final Map<Apparition, Set<UUID>> aidedEntitiesByApparition = new IdentityHashMap<>();
+	private final Map<UUID, Set<Apparition>> apparitionsByAidedEntity = new HashMap<>();
+
+	private ApparitionAidTracker() {
+	}
+
+	public static void init() {
+		ServerEntityEvents.ENTITY_LOAD.register((entity, level) -> {
+			if (entity instanceof Apparition apparition) {
+				get(level).track(apparition);
+			}
+		});
+		ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+			if (entity instanceof Apparition apparition) {
+				ApparitionAidTracker tracker = TRACKERS.get(level);
+				if (tracker != null) tracker.untrack(apparition);
+			}
+		});
+		ServerWorldEvents.UNLOAD.register((server, level) -> TRACKERS.remove(level));
+	}
+
+	public static @NotNull ApparitionAidTracker get(@NotNull ServerLevel level) {
+		return TRACKERS.computeIfAbsent(level, unused -> new ApparitionAidTracker());
+	}
+
+	public void track(@NotNull Apparition apparition) {
+		this.aidedEntitiesByApparition.computeIfAbsent(apparition, unused -> new HashSet<>());
+	}
+
+	public void untrack(@NotNull Apparition apparition) {
+		this.clearAidedEntities(apparition);
+		this.aidedEntitiesByApparition.remove(apparition);
+	}
+
+	public @NotNull Collection<Apparition> getApparitions() {
+		return Collections.unmodifiableSet(this.aidedEntitiesByApparition.keySet());
+	}
+
+	public void setAidedEntities(@NotNull Apparition apparition, @NotNull Collection<UUID> aidedEntities) {
+		Set<UUID> currentlyAided = this.aidedEntitiesByApparition.computeIfAbsent(apparition, unused -> new HashSet<>());
+		if (currentlyAided.size() == aidedEntities.size() && currentlyAided.containsAll(aidedEntities)) return;
+
+		this.clearAidedEntities(apparition);
+		for (UUID uuid : aidedEntities) {
+			currentlyAided.add(uuid);
+			this.apparitionsByAidedEntity.computeIfAbsent(uuid, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(apparition);
+		}
+	}
+
+	public void clearAidedEntities(@NotNull Apparition apparition) {
+		Set<UUID> currentlyAided = this.aidedEntitiesByApparition.get(apparition);
+		if (currentlyAided == null || currentlyAided.isEmpty()) return;
+
+		for (UUID uuid : currentlyAided) {
+			Set<Apparition> aidingApparitions = this.apparitionsByAidedEntity.get(uuid);
+			if (aidingApparitions != null) {
+				aidingApparitions.remove(apparition);
+				if (aidingApparitions.isEmpty()) this.apparitionsByAidedEntity.remove(uuid);
+			}
+		}
+		currentlyAided.clear();
+	}
+
+	public boolean isAiding(@NotNull Apparition apparition, @NotNull UUID uuid) {
+		Set<UUID> currentlyAided = this.aidedEntitiesByApparition.get(apparition);
+		return currentlyAided != null && currentlyAided.contains(uuid);
+	}
+
+	public boolean isAidedByOtherApparition(@NotNull Apparition apparition, @NotNull UUID uuid) {
+		Set<Apparition> aidingApparitions = this.apparitionsByAidedEntity.get(uuid);
+		if (aidingApparitions != null) {
+			for (Apparition aidingApparition : aidingApparitions) {
+				if (aidingApparition != apparition) return true;
+			}
+		}
+		return false;
+	}
+}
@@ -23,7 +23,6 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.function.Predicate;
 import net.fabricmc.fabric.api.tag.convention.v2.ConventionalEntityTypeTags;
 import net.frozenblock.trailiertales.entity.Apparition;
@@ -50,12 +49,12 @@ public class ApparitionAidablesSensor extends Sensor<Apparition> {
 		);
 	}
 
-	protected boolean isMatchingEntity(Apparition apparition, LivingEntity target, List<UUID> takenUUIDs) {
+	protected boolean isMatchingEntity(Apparition apparition, LivingEntity target, ApparitionAidTracker aidTracker) {
 		return this.isClose(apparition, target)
-			&& this.isAidable(apparition, target, takenUUIDs);
+			&& this.isAidable(apparition, target, aidTracker);
 	}
 
-	private boolean isAidable(@NotNull Apparition apparition, @NotNull LivingEntity entity, List<UUID> takenUUIDs) {
+	private boolean isAidable(@NotNull Apparition apparition, @NotNull LivingEntity entity, ApparitionAidTracker aidTracker) {
 		LivingEntity newTarget = apparition.getTarget();
 		if (
 			entity instanceof Mob mob
@@ -63,14 +62,14 @@ public class ApparitionAidablesSensor extends Sensor<Apparition> {
 				&& mob.getType() != TTEntityTypes.APPARITION
 				&& !mob.getType().getCategory().isFriendly()
 				&& !mob.getType().is(ConventionalEntityTypeTags.BOSSES)
-				&& !takenUUIDs.contains(mob.getUUID())
+				&& !aidTracker.isAidedByOtherApparition(apparition, mob.getUUID())
 		) {
 			Brain<Apparition> brain = apparition.getBrain();
-			if (brain.hasMemoryValue(TTMemoryModuleTypes.AIDING_TIME)) {
-				Optional<List<UUID>> trackingUUIDs = brain.getMemory(TTMemoryModuleTypes.AIDING_ENTITIES);
-				if (trackingUUIDs.isPresent() && !trackingUUIDs.get().contains(mob.getUUID())) {
-					return false;
-				}
+			if (brain.hasMemoryValue(TTMemoryModuleTypes.AIDING_TIME)
+				&& brain.hasMemoryValue(TTMemoryModuleTypes.AIDING_ENTITIES)
+				&& !aidTracker.isAiding(apparition, mob.getUUID())
+			) {
+				return false;
 			}
 			LivingEntity currentTarget = mob.getTarget();
 			return mob != apparition
@@ -91,21 +90,14 @@ public class ApparitionAidablesSensor extends Sensor<Apparition> {
 		Brain<?> brain = apparition.getBrain();
 		LivingEntity attackTarget = apparition.getTarget();
 		if (attackTarget != null) {
-			List<UUID> takenUUIDs = new ArrayList<>();
-			world.getAllEntities().forEach(
-				entity -> {
-					if (entity instanceof Apparition otherApparition && otherApparition != apparition) {
-						otherApparition.getBrain().getMemory(TTMemoryModuleTypes.AIDING_ENTITIES).ifPresent(takenUUIDs::addAll);
-					}
-				}
-			);
+			ApparitionAidTracker aidTracker = ApparitionAidTracker.get(world);
 
 			double range = apparition.getAttributeValue(Attributes.FOLLOW_RANGE);
 			AABB aABB = apparition.getBoundingBox().inflate(range, range, range);
 			List<LivingEntity> list = world.getEntitiesOfClass(
 				LivingEntity.class,
 				aABB,
-				livingEntity2 -> isMatchingEntity(apparition, livingEntity2, takenUUIDs)
+				livingEntity2 -> isMatchingEntity(apparition, livingEntity2, aidTracker)
 			);
 			list.sort(Comparator.comparingDouble(apparition::distanceToSqr));
 			brain.setMemory(TTMemoryModuleTypes.NEARBY_AIDABLES, list);
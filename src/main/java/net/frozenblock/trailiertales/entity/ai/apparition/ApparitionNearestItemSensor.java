@@ -19,21 +19,25 @@
 package net.frozenblock.trailiertales.entity.ai.apparition;
 
 import com.google.common.collect.ImmutableSet;
-import java.util.Comparator;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import net.frozenblock.trailiertales.entity.Apparition;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ai.Brain;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.sensing.Sensor;
 import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.entity.EntityTypeTest;
 import org.jetbrains.annotations.NotNull;
 
 public class ApparitionNearestItemSensor extends Sensor<Apparition> {
 	private static final double RADIUS = 24D;
 	private static final double Y_RANGE = 24D;
+	private static final EntityTypeTest<Entity, ItemEntity> ITEM_TEST = EntityTypeTest.forClass(ItemEntity.class);
+	// Reused between ticks to avoid allocating a list per scan.
+	private final List<ItemEntity> itemsInRange = new ObjectArrayList<>();
 
 	@Override
 	public @NotNull Set<MemoryModuleType<?>> requires() {
@@ -42,13 +46,23 @@ public class ApparitionNearestItemSensor extends Sensor<Apparition> {
 
 	@Override
 	protected void doTick(@NotNull ServerLevel world, @NotNull Apparition apparition) {
+		world.getEntities(ITEM_TEST, apparition.getBoundingBox().inflate(RADIUS, Y_RANGE, RADIUS), itemEntity -> true, this.itemsInRange);
+
+		// Only the nearest wanted item is needed, so pick it in one pass instead of sorting every item.
+		ItemEntity nearestWantedItem = null;
+		double nearestDistanceSqr = RADIUS * RADIUS;
+		for (ItemEntity itemEntity : this.itemsInRange) {
+			double distanceSqr = apparition.distanceToSqr(itemEntity);
+			if (distanceSqr < nearestDistanceSqr && apparition.wantsToPickUp(itemEntity)) {
+				nearestWantedItem = itemEntity;
+				nearestDistanceSqr = distanceSqr;
+			}
+		}
+		this.itemsInRange.clear();
+
 		Brain<?> brain = apparition.getBrain();
-		List<ItemEntity> list = world.getEntitiesOfClass(ItemEntity.class, apparition.getBoundingBox().inflate(RADIUS, Y_RANGE, RADIUS), itemEntity -> true);
-		list.sort(Comparator.comparingDouble(apparition::distanceToSqr));
-		Optional<ItemEntity> optional = list.stream()
-			.filter(apparition::wantsToPickUp)
-			.filter(itemEntity -> itemEntity.closerThan(apparition, RADIUS))
-			.findFirst();
-		brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM, optional);
+		if (brain.getMemory(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM).orElse(null) != nearestWantedItem) {
+			brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM, nearestWantedItem);
+		}
 	}
 }
@@ -19,14 +19,14 @@
 package net.frozenblock.trailiertales.entity.ai.apparition;
 
 import com.google.common.collect.ImmutableSet;
-import java.util.Comparator;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import net.frozenblock.trailiertales.entity.Apparition;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.Brain;
 import net.minecraft.world.entity.ai.attributes.Attributes;
@@ -35,6 +35,7 @@ import net.minecraft.world.entity.ai.sensing.Sensor;
 import net.minecraft.world.entity.ai.targeting.TargetingConditions;
 import net.minecraft.world.entity.player.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class ApparitionPlayerSensor extends Sensor<Apparition> {
 	private static final TargetingConditions TARGET_CONDITIONS = TargetingConditions.forNonCombat()
@@ -47,6 +48,9 @@ public class ApparitionPlayerSensor extends Sensor<Apparition> {
 	private static final TargetingConditions ATTACK_TARGET_CONDITIONS_IGNORE_INVISIBILITY = TargetingConditions.forCombat()
 		.ignoreLineOfSight()
 		.ignoreInvisibilityTesting();
+	// Reused between ticks; only copied into a memory when the nearby players change.
+	private final List<Player> nearbyPlayers = new ObjectArrayList<>();
+	private final DoubleArrayList nearbyPlayerDistances = new DoubleArrayList();
 
 	@Override
 	public @NotNull Set<MemoryModuleType<?>> requires() {
@@ -56,19 +60,53 @@ public class ApparitionPlayerSensor extends Sensor<Apparition> {
 	@Override
 	protected void doTick(@NotNull ServerLevel world, @NotNull Apparition apparition) {
 		double range = apparition.getAttributeValue(Attributes.FOLLOW_RANGE);
-		List<Player> list = world.players()
-			.stream()
-			.filter(EntitySelector.NO_SPECTATORS)
-			.filter(player -> apparition.closerThan(player, range))
-			.sorted(Comparator.comparingDouble(apparition::distanceToSqr))
-			.collect(Collectors.toList());
+		this.collectNearbyPlayers(world, apparition, range);
 
 		Brain<?> brain = apparition.getBrain();
-		brain.setMemory(MemoryModuleType.NEAREST_PLAYERS, list);
-		List<Player> list2 = list.stream().filter(player -> isEntityTargetable(apparition, player, range)).toList();
-		brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_PLAYER, list2.isEmpty() ? null : list2.getFirst());
-		Optional<Player> optional = list2.stream().filter(player -> isEntityAttackable(apparition, player, range)).findFirst();
-		brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_ATTACKABLE_PLAYER, optional);
+		if (!brain.getMemory(MemoryModuleType.NEAREST_PLAYERS).map(this.nearbyPlayers::equals).orElse(false)) {
+			brain.setMemory(MemoryModuleType.NEAREST_PLAYERS, List.copyOf(this.nearbyPlayers));
+		}
+
+		Player nearestVisiblePlayer = null;
+		Player nearestAttackablePlayer = null;
+		for (Player player : this.nearbyPlayers) {
+			if (!isEntityTargetable(apparition, player, range)) continue;
+			if (nearestVisiblePlayer == null) nearestVisiblePlayer = player;
+			if (isEntityAttackable(apparition, player, range)) {
+				nearestAttackablePlayer = player;
+				break;
+			}
+		}
+		this.nearbyPlayers.clear();
+
+		setMemoryIfChanged(brain, MemoryModuleType.NEAREST_VISIBLE_PLAYER, nearestVisiblePlayer);
+		setMemoryIfChanged(brain, MemoryModuleType.NEAREST_VISIBLE_ATTACKABLE_PLAYER, nearestAttackablePlayer);
+	}
+
+	/**
+	 * Fills {@link #nearbyPlayers} with the non-spectator players in range, nearest first.
+	 */
+	private void collectNearbyPlayers(@NotNull ServerLevel world, @NotNull Apparition apparition, double range) {
+		this.nearbyPlayers.clear();
+		this.nearbyPlayerDistances.clear();
+		double rangeSqr = range * range;
+		for (Player player : world.players()) {
+			if (player.isSpectator()) continue;
+			double distanceSqr = apparition.distanceToSqr(player);
+			if (distanceSqr >= rangeSqr) continue;
+
+			int index = this.nearbyPlayers.size();
+			while (index > 0 && this.nearbyPlayerDistances.getDouble(index - 1) > distanceSqr) index--;
+			this.nearbyPlayers.add(index, player);
+			this.nearbyPlayerDistances.add(index, distanceSqr);
+		}
+	}
+
+	private static <T> void setMemoryIfChanged(@NotNull Brain<?> brain, MemoryModuleType<T> memoryType, @Nullable T value) {
+		Optional<T> currentValue = brain.getMemory(memoryType);
+		if (!Objects.equals(currentValue.orElse(null), value)) {
+			brain.setMemory(memoryType, value);
+		}
 	}
 
 	public static boolean isEntityTargetable(@NotNull LivingEntity entity, LivingEntity target, double range) {
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.trailiertales.entity.ai.apparition;
+
+import net.frozenblock.trailiertales.config.TTEntityConfig;
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Decides on which ticks an {@link Apparition}'s sensors advance, based on how far away the nearest player is.
+ */
+public final class ApparitionSensorScheduler {
+
+	private ApparitionSensorScheduler() {
+		throw new UnsupportedOperationException("ApparitionSensorScheduler contains only static declarations.");
+	}
+
+	public static boolean shouldTickSensors(@NotNull ServerLevel level, @NotNull Apparition apparition) {
+		TTEntityConfig.Apparition config = TTEntityConfig.get().apparition;
+		// Apparitions that are fighting or were just hurt should react without delay.
+		if (!config.sensor_scheduling || apparition.getTarget() != null || apparition.hurtTime > 0) return true;
+
+		int interval = getSensorInterval(config, getDistanceSqrToNearestPlayer(level, apparition));
+		if (interval <= 0) return false;
+		if (interval == 1) return true;
+		return Math.floorMod(level.getGameTime() + Mth.murmurHash3Mixer(apparition.getId()), interval) == 0L;
+	}
+
+	/**
+	 * Returns how many ticks pass per sensor tick at the given squared distance, or 0 if sensing is frozen.
+	 */
+	private static int getSensorInterval(@NotNull TTEntityConfig.Apparition config, double distanceSqr) {
+		if (distanceSqr <= Mth.square((double) config.sensor_near_distance)) return 1;
+		if (distanceSqr <= Mth.square((double) config.sensor_far_distance)) return Math.max(1, config.sensor_mid_interval);
+		if (distanceSqr <= Mth.square((double) config.sensor_freeze_distance)) return Math.max(1, config.sensor_far_interval);
+		return 0;
+	}
+
+	private static double getDistanceSqrToNearestPlayer(@NotNull ServerLevel level, @NotNull Apparition apparition) {
+		double nearestDistanceSqr = Double.MAX_VALUE;
+		for (ServerPlayer player : level.players()) {
+			if (player.isSpectator()) continue;
+			nearestDistanceSqr = Math.min(nearestDistanceSqr, player.distanceToSqr(apparition));
+		}
+		return nearestDistanceSqr;
+	}
+}
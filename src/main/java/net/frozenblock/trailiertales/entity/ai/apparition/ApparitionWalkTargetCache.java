@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.trailiertales.entity.ai.apparition;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
+import net.frozenblock.trailiertales.config.TTEntityConfig;
+import net.frozenblock.trailiertales.worldgen.structure.CatacombsBoundsIndex;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Remembers, per section, whether an Apparition's walk target candidates lie within the Catacombs.
+ */
+public final class ApparitionWalkTargetCache {
+	private static final int MAX_CACHED_SECTIONS = 256;
+	private static final long NOT_CACHED = -1L;
+
+	// Each value packs the tick the entry expires at above the section's coverage in the lowest two bits.
+	private final Long2LongMap coverageBySection = new Long2LongOpenHashMap();
+
+	public ApparitionWalkTargetCache() {
+		this.coverageBySection.defaultReturnValue(NOT_CACHED);
+	}
+
+	public boolean isInCatacombsBounds(@NotNull ServerLevel level, @NotNull BlockPos pos) {
+		int cacheTicks = TTEntityConfig.get().apparition.walk_target_cache_ticks;
+		if (cacheTicks <= 0) return CoffinSpawner.isInCatacombsBounds(pos, level);
+
+		long sectionPos = SectionPos.asLong(pos);
+		long gameTime = level.getGameTime();
+		long cached = this.coverageBySection.get(sectionPos);
+		byte coverage;
+		if (cached != NOT_CACHED && (cached >>> 2) > gameTime) {
+			coverage = (byte) (cached & 3L);
+		} else {
+			if (this.coverageBySection.size() >= MAX_CACHED_SECTIONS) this.coverageBySection.clear();
+			coverage = CatacombsBoundsIndex.get(level).getSectionCoverage(pos);
+			this.coverageBySection.put(sectionPos, ((gameTime + cacheTicks) << 2) | coverage);
+		}
+
+		if (coverage == CatacombsBoundsIndex.SECTION_MIXED) return CoffinSpawner.isInCatacombsBounds(pos, level);
+		return coverage == CatacombsBoundsIndex.SECTION_INSIDE;
+	}
+}
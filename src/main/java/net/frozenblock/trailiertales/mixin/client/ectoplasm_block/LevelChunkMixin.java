@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.trailiertales.mixin.client.ectoplasm_block;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.trailiertales.impl.EctoplasmChunkInterface;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Environment(EnvType.CLIENT)
+@Mixin(LevelChunk.class)
+public class LevelChunkMixin {
+
+	@Inject(method = "replaceWithPacketData", at = @At("TAIL"))
+	public void trailierTales$invalidateEctoplasmScan(CallbackInfo info) {
+		if (LevelChunk.class.cast(this) instanceof EctoplasmChunkInterface ectoplasmChunkInterface) {
+			ectoplasmChunkInterface.trailierTales$invalidateEctoplasmScan();
+		}
+	}
+}
@@ -29,7 +29,10 @@ import net.minecraft.world.phys.shapes.EntityCollisionContext;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(BlockCollisions.class)
 public class BlockCollisionsMixin {
@@ -38,6 +41,15 @@ public class BlockCollisionsMixin {
 	@Final
 	private CollisionContext context;
 
+	@Unique
+	private boolean trailierTales$isApparitionContext;
+
+	@Inject(method = "<init>", at = @At("TAIL"))
+	public void trailierTales$classifyContext(CallbackInfo info) {
+		this.trailierTales$isApparitionContext = this.context instanceof EntityCollisionContext entityCollisionContext
+			&& entityCollisionContext.getEntity() instanceof Apparition;
+	}
+
 	@ModifyExpressionValue(
 		method = "computeNext",
 		at = @At(
@@ -46,13 +58,8 @@ public class BlockCollisionsMixin {
 		)
 	)
 	public BlockState trailierTales$modifyBlockStateForApparitions(BlockState original) {
-		if (this.context instanceof EntityCollisionContext entityCollisionContext) {
-			if (entityCollisionContext.getEntity() instanceof Apparition) {
-				return original.getBlock() instanceof EctoplasmBlock ? original : Blocks.AIR.defaultBlockState();
-			}
-		}
-
-		return original;
+		if (!this.trailierTales$isApparitionContext) return original;
+		return original.getBlock() instanceof EctoplasmBlock ? original : Blocks.AIR.defaultBlockState();
 	}
 
 }
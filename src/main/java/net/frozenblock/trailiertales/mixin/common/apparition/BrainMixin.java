@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.trailiertales.mixin.common.apparition;
+
+import com.llamalad7.mixinextras.injector.WrapWithCondition;
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionSensorScheduler;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.Brain;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+@Mixin(Brain.class)
+public class BrainMixin<E extends LivingEntity> {
+
+	@WrapWithCondition(
+		method = "tick",
+		at = @At(
+			value = "INVOKE",
+			target = "Lnet/minecraft/world/entity/ai/Brain;tickSensors(Lnet/minecraft/server/level/ServerLevel;Lnet/minecraft/world/entity/LivingEntity;)V"
+		)
+	)
+	private boolean trailierTales$scheduleApparitionSensors(Brain<E> brain, ServerLevel level, E entity) {
+		return !(entity instanceof Apparition apparition) || ApparitionSensorScheduler.shouldTickSensors(level, apparition);
+	}
+}
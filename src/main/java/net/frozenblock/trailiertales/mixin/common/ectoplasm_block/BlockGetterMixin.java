@@ -26,7 +26,9 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.EntityCollisionContext;
@@ -49,7 +51,18 @@ public interface BlockGetterMixin {
 		if (context.collisionContext instanceof EntityCollisionContext entityCollisionContext) {
 			Entity entity = entityCollisionContext.getEntity();
 			if (entity instanceof InEctoplasmBlockInterface inEctoplasmBlockInterface) {
-				BlockState eyeState = getBlockState(BlockPos.containing(entity.getEyePosition()));
+				BlockPos eyePos = BlockPos.containing(entity.getEyePosition());
+				BlockState eyeState;
+				if (this instanceof Level level) {
+					LevelChunk chunk = level.getChunkAt(eyePos);
+					if (!EctoplasmBlock.chunkMayContainEctoplasm(chunk)) {
+						inEctoplasmBlockInterface.trailierTales$setClipInEctoplasm(false);
+						return;
+					}
+					eyeState = chunk.getBlockState(eyePos);
+				} else {
+					eyeState = getBlockState(eyePos);
+				}
 				if (eyeState != null) {
 					inEctoplasmBlockInterface.trailierTales$setClipInEctoplasm(eyeState.getBlock() instanceof EctoplasmBlock);
 				}
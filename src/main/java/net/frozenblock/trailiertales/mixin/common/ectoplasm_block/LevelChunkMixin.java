@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.trailiertales.mixin.common.ectoplasm_block;
+
+import net.frozenblock.trailiertales.block.EctoplasmBlock;
+import net.frozenblock.trailiertales.impl.EctoplasmChunkInterface;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(LevelChunk.class)
+public class LevelChunkMixin implements EctoplasmChunkInterface {
+
+	@Unique
+	private boolean trailierTales$scannedForEctoplasm;
+	@Unique
+	private boolean trailierTales$mayContainEctoplasm;
+
+	@Inject(method = "setBlockState", at = @At("HEAD"))
+	public void trailierTales$markEctoplasmPlaced(BlockPos pos, BlockState state, boolean moved, CallbackInfoReturnable<BlockState> info) {
+		if (state.getBlock() instanceof EctoplasmBlock) {
+			this.trailierTales$markContainsEctoplasm();
+		}
+	}
+
+	@Unique
+	@Override
+	public boolean trailierTales$mayContainEctoplasm() {
+		if (!this.trailierTales$scannedForEctoplasm) {
+			boolean mayContainEctoplasm = false;
+			for (LevelChunkSection section : LevelChunk.class.cast(this).getSections()) {
+				if (!section.hasOnlyAir() && section.maybeHas(EctoplasmBlock::isEctoplasm)) {
+					mayContainEctoplasm = true;
+					break;
+				}
+			}
+			this.trailierTales$mayContainEctoplasm = mayContainEctoplasm;
+			this.trailierTales$scannedForEctoplasm = true;
+		}
+		return this.trailierTales$mayContainEctoplasm;
+	}
+
+	@Unique
+	@Override
+	public void trailierTales$markContainsEctoplasm() {
+		this.trailierTales$mayContainEctoplasm = true;
+		this.trailierTales$scannedForEctoplasm = true;
+	}
+
+	@Unique
+	@Override
+	public void trailierTales$invalidateEctoplasmScan() {
+		this.trailierTales$scannedForEctoplasm = false;
+	}
+}
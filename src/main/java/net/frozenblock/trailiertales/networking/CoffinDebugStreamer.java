@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.trailiertales.networking;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.frozenblock.trailiertales.config.TTMiscConfig;
+import net.frozenblock.trailiertales.networking.packet.CoffinDebugPacket;
+import net.frozenblock.trailiertales.networking.packet.CoffinDebugSubscribePacket;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sends each subscribed player the coffin debug connections in their view distance that changed since the last send.
+ */
+public final class CoffinDebugStreamer {
+	private static final Map<ServerLevel, Int2ObjectMap<TrackedConnection>> CONNECTIONS = new IdentityHashMap<>();
+	private static final Map<UUID, Int2ObjectMap<CoffinDebugPacket.Entry>> SENT_BY_SUBSCRIBER = new HashMap<>();
+
+	private CoffinDebugStreamer() {
+	}
+
+	public static void init() {
+		ServerPlayNetworking.registerGlobalReceiver(
+			CoffinDebugSubscribePacket.PACKET_TYPE,
+			(packet, ctx) -> setSubscribed(ctx.player(), packet.subscribed())
+		);
+		ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> SENT_BY_SUBSCRIBER.remove(handler.getPlayer().getUUID()));
+		ServerTickEvents.END_SERVER_TICK.register(CoffinDebugStreamer::sendUpdates);
+		ServerWorldEvents.UNLOAD.register((server, level) -> CONNECTIONS.remove(level));
+	}
+
+	private static void setSubscribed(@NotNull ServerPlayer player, boolean subscribed) {
+		if (subscribed && (player.hasPermissions(2) || player.server.isSingleplayerOwner(player.getGameProfile()))) {
+			SENT_BY_SUBSCRIBER.putIfAbsent(player.getUUID(), new Int2ObjectOpenHashMap<>());
+		} else {
+			SENT_BY_SUBSCRIBER.remove(player.getUUID());
+		}
+	}
+
+	public static void update(@NotNull ServerLevel level, @NotNull Entity entity, long lastInteractionTime, @NotNull BlockPos coffinPos) {
+		if (SENT_BY_SUBSCRIBER.isEmpty()) return;
+
+		Int2ObjectMap<TrackedConnection> connections = CONNECTIONS.computeIfAbsent(level, unused -> new Int2ObjectOpenHashMap<>());
+		TrackedConnection connection = connections.get(entity.getId());
+		if (connection != null && connection.entity == entity && connection.entry.lastInteractionTime() == lastInteractionTime && connection.entry.coffinPos().equals(coffinPos)) {
+			return;
+		}
+		connections.put(entity.getId(), new TrackedConnection(entity, new CoffinDebugPacket.Entry(entity.getId(), lastInteractionTime, coffinPos.immutable())));
+	}
+
+	public static void remove(@NotNull ServerLevel level, int entityId) {
+		Int2ObjectMap<TrackedConnection> connections = CONNECTIONS.get(level);
+		if (connections != null) connections.remove(entityId);
+	}
+
+	private static void sendUpdates(@NotNull MinecraftServer server) {
+		if (SENT_BY_SUBSCRIBER.isEmpty()) {
+			CONNECTIONS.clear();
+			return;
+		}
+		int sendInterval = Math.max(1, TTMiscConfig.get().coffin_debug_send_interval);
+		if (server.getTickCount() % sendInterval != 0) return;
+
+		for (Int2ObjectMap<TrackedConnection> connections : CONNECTIONS.values()) {
+			connections.values().removeIf(connection -> connection.entity.isRemoved());
+		}
+
+		double viewDistance = SectionPos.sectionToBlockCoord(server.getPlayerList().getViewDistance());
+		double viewDistanceSqr = viewDistance * viewDistance;
+		for (Map.Entry<UUID, Int2ObjectMap<CoffinDebugPacket.Entry>> subscriber : SENT_BY_SUBSCRIBER.entrySet()) {
+			ServerPlayer player = server.getPlayerList().getPlayer(subscriber.getKey());
+			if (player == null) continue;
+
+			Int2ObjectMap<CoffinDebugPacket.Entry> sent = subscriber.getValue();
+			Int2ObjectMap<TrackedConnection> connections = CONNECTIONS.getOrDefault(player.serverLevel(), Int2ObjectMaps.emptyMap());
+			List<CoffinDebugPacket.Entry> updates = new ObjectArrayList<>();
+			IntList removals = new IntArrayList();
+
+			for (TrackedConnection connection : connections.values()) {
+				int entityId = connection.entry.entityId();
+				if (connection.entity.distanceToSqr(player) <= viewDistanceSqr) {
+					if (!connection.entry.equals(sent.get(entityId))) {
+						updates.add(connection.entry);
+						sent.put(entityId, connection.entry);
+					}
+				} else if (sent.remove(entityId) != null) {
+					removals.add(entityId);
+				}
+			}
+
+			IntIterator sentIds = sent.keySet().iterator();
+			while (sentIds.hasNext()) {
+				int entityId = sentIds.nextInt();
+				if (!connections.containsKey(entityId)) {
+					removals.add(entityId);
+					sentIds.remove();
+				}
+			}
+
+			if (!updates.isEmpty() || !removals.isEmpty()) {
+				ServerPlayNetworking.send(player, new CoffinDebugPacket(updates, removals));
+			}
+		}
+	}
+
+	private record TrackedConnection(Entity entity, CoffinDebugPacket.Entry entry) {
+	}
+}
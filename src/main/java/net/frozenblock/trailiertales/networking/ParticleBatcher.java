@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.trailiertales.networking;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.frozenblock.trailiertales.networking.packet.ParticleBatchPacket;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Batches particle emissions into one {@link ParticleBatchPacket} per nearby player per tick, falling back to vanilla packets.
+ */
+public final class ParticleBatcher {
+	private static final double PARTICLE_RANGE = 32D;
+	private static final Map<ServerLevel, List<QueuedEmission>> QUEUED_EMISSIONS = new IdentityHashMap<>();
+
+	private ParticleBatcher() {
+	}
+
+	public static void init() {
+		ServerTickEvents.END_SERVER_TICK.register(ParticleBatcher::flush);
+		ServerWorldEvents.UNLOAD.register((server, level) -> QUEUED_EMISSIONS.remove(level));
+	}
+
+	/**
+	 * Like {@link ServerLevel#sendParticles(ParticleOptions, double, double, double, int, double, double, double, double)}, but sent at the end of the tick.
+	 */
+	public static void sendParticles(
+		@NotNull ServerLevel level,
+		@NotNull ParticleOptions particleOptions,
+		double x,
+		double y,
+		double z,
+		int count,
+		double xDist,
+		double yDist,
+		double zDist,
+		double speed
+	) {
+		QUEUED_EMISSIONS.computeIfAbsent(level, unused -> new ObjectArrayList<>()).add(
+			new QueuedEmission(particleOptions, new ParticleBatchPacket.Emission(x, y, z, count, (float) xDist, (float) yDist, (float) zDist, (float) speed))
+		);
+	}
+
+	private static void flush(MinecraftServer server) {
+		for (Map.Entry<ServerLevel, List<QueuedEmission>> levelEmissions : QUEUED_EMISSIONS.entrySet()) {
+			List<QueuedEmission> queuedEmissions = levelEmissions.getValue();
+			if (queuedEmissions.isEmpty()) continue;
+
+			ServerLevel level = levelEmissions.getKey();
+			for (ServerPlayer player : level.players()) {
+				sendToPlayer(level, player, queuedEmissions);
+			}
+			queuedEmissions.clear();
+		}
+	}
+
+	private static void sendToPlayer(@NotNull ServerLevel level, @NotNull ServerPlayer player, @NotNull List<QueuedEmission> queuedEmissions) {
+		boolean canBatch = ServerPlayNetworking.canSend(player, ParticleBatchPacket.PACKET_TYPE);
+		BlockPos playerPos = player.blockPosition();
+		double playerX = playerPos.getX() + 0.5D;
+		double playerY = playerPos.getY() + 0.5D;
+		double playerZ = playerPos.getZ() + 0.5D;
+		Map<ParticleOptions, List<ParticleBatchPacket.Emission>> emissionsByOptions = null;
+
+		for (QueuedEmission queuedEmission : queuedEmissions) {
+			ParticleBatchPacket.Emission emission = queuedEmission.emission;
+			double xDifference = emission.x() - playerX;
+			double yDifference = emission.y() - playerY;
+			double zDifference = emission.z() - playerZ;
+			if (xDifference * xDifference + yDifference * yDifference + zDifference * zDifference >= PARTICLE_RANGE * PARTICLE_RANGE) continue;
+
+			if (canBatch) {
+				if (emissionsByOptions == null) emissionsByOptions = new LinkedHashMap<>();
+				emissionsByOptions.computeIfAbsent(queuedEmission.options, unused -> new ObjectArrayList<>()).add(emission);
+			} else {
+				level.sendParticles(
+					player,
+					queuedEmission.options,
+					false,
+					emission.x(),
+					emission.y(),
+					emission.z(),
+					emission.count(),
+					emission.xDist(),
+					emission.yDist(),
+					emission.zDist(),
+					emission.speed()
+				);
+			}
+		}
+
+		if (emissionsByOptions != null) {
+			List<ParticleBatchPacket.Group> groups = new ObjectArrayList<>(emissionsByOptions.size());
+			emissionsByOptions.forEach((options, emissions) -> groups.add(new ParticleBatchPacket.Group(options, emissions)));
+			ServerPlayNetworking.send(player, new ParticleBatchPacket(groups));
+		}
+	}
+
+	private record QueuedEmission(ParticleOptions options, ParticleBatchPacket.Emission emission) {
+	}
+}
@@ -20,7 +20,8 @@ package net.frozenblock.trailiertales.networking;
 
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
 import net.frozenblock.trailiertales.networking.packet.CoffinDebugPacket;
-import net.frozenblock.trailiertales.networking.packet.CoffinRemoveDebugPacket;
+import net.frozenblock.trailiertales.networking.packet.CoffinDebugSubscribePacket;
+import net.frozenblock.trailiertales.networking.packet.ParticleBatchPacket;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 
 public class TTNetworking {
@@ -28,6 +29,12 @@ public class TTNetworking {
 	public static void init() {
 		PayloadTypeRegistry<RegistryFriendlyByteBuf> registry = PayloadTypeRegistry.playS2C();
 		registry.register(CoffinDebugPacket.PACKET_TYPE, CoffinDebugPacket.CODEC);
-		registry.register(CoffinRemoveDebugPacket.PACKET_TYPE, CoffinRemoveDebugPacket.CODEC);
+		registry.register(ParticleBatchPacket.PACKET_TYPE, ParticleBatchPacket.CODEC);
+
+		PayloadTypeRegistry<RegistryFriendlyByteBuf> c2sRegistry = PayloadTypeRegistry.playC2S();
+		c2sRegistry.register(CoffinDebugSubscribePacket.PACKET_TYPE, CoffinDebugSubscribePacket.CODEC);
+
+		CoffinDebugStreamer.init();
+		ParticleBatcher.init();
 	}
 }
@@ -18,6 +18,8 @@
 
 package net.frozenblock.trailiertales.networking.packet;
 
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.List;
 import net.frozenblock.trailiertales.TTConstants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
@@ -25,7 +27,10 @@ import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import org.jetbrains.annotations.NotNull;
 
-public record CoffinDebugPacket(int entityId, long lastInteractionTime, BlockPos coffinPos, long gameTime) implements CustomPacketPayload {
+/**
+ * One tick's worth of coffin debug changes for a single subscribed player.
+ */
+public record CoffinDebugPacket(List<Entry> updates, IntList removals) implements CustomPacketPayload {
 	public static final Type<CoffinDebugPacket> PACKET_TYPE = new Type<>(
 		TTConstants.id("debug_coffin")
 	);
@@ -33,18 +38,29 @@ public record CoffinDebugPacket(int entityId, long lastInteractionTime, BlockPos
 	public static final StreamCodec<FriendlyByteBuf, CoffinDebugPacket> CODEC = StreamCodec.ofMember(CoffinDebugPacket::write, CoffinDebugPacket::new);
 
 	public CoffinDebugPacket(@NotNull FriendlyByteBuf buf) {
-		this(buf.readVarInt(), buf.readLong(), buf.readBlockPos(), buf.readLong());
+		this(buf.readList(Entry::new), buf.readIntIdList());
 	}
 
 	public void write(@NotNull FriendlyByteBuf buf) {
-		buf.writeVarInt(this.entityId);
-		buf.writeLong(this.lastInteractionTime);
-		buf.writeBlockPos(this.coffinPos);
-		buf.writeLong(this.gameTime);
+		buf.writeCollection(this.updates, (buffer, entry) -> entry.write(buffer));
+		buf.writeIntIdList(this.removals);
 	}
 
 	@NotNull
 	public Type<?> type() {
 		return PACKET_TYPE;
 	}
+
+	public record Entry(int entityId, long lastInteractionTime, BlockPos coffinPos) {
+
+		public Entry(@NotNull FriendlyByteBuf buf) {
+			this(buf.readVarInt(), buf.readLong(), buf.readBlockPos());
+		}
+
+		public void write(@NotNull FriendlyByteBuf buf) {
+			buf.writeVarInt(this.entityId);
+			buf.writeLong(this.lastInteractionTime);
+			buf.writeBlockPos(this.coffinPos);
+		}
+	}
 }
@@ -24,19 +24,19 @@ import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import org.jetbrains.annotations.NotNull;
 
-public record CoffinRemoveDebugPacket(Integer entityId) implements CustomPacketPayload {
-	public static final Type<CoffinRemoveDebugPacket> PACKET_TYPE = new Type<>(
-		TTConstants.id("debug_coffin_remove")
+public record CoffinDebugSubscribePacket(boolean subscribed) implements CustomPacketPayload {
+	public static final Type<CoffinDebugSubscribePacket> PACKET_TYPE = new Type<>(
+		TTConstants.id("debug_coffin_subscribe")
 	);
 
-	public static final StreamCodec<FriendlyByteBuf, CoffinRemoveDebugPacket> CODEC = StreamCodec.ofMember(CoffinRemoveDebugPacket::write, CoffinRemoveDebugPacket::new);
+	public static final StreamCodec<FriendlyByteBuf, CoffinDebugSubscribePacket> CODEC = StreamCodec.ofMember(CoffinDebugSubscribePacket::write, CoffinDebugSubscribePacket::new);
 
-	public CoffinRemoveDebugPacket(@NotNull FriendlyByteBuf buf) {
-		this(buf.readVarInt());
+	public CoffinDebugSubscribePacket(@NotNull FriendlyByteBuf buf) {
+		this(buf.readBoolean());
 	}
 
 	public void write(@NotNull FriendlyByteBuf buf) {
-		buf.writeVarInt(this.entityId);
+		buf.writeBoolean(this.subscribed);
 	}
 
 	@NotNull
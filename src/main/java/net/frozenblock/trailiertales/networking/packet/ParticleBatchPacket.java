@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.trailiertales.networking.packet;
+
+import java.util.List;
+import net.frozenblock.trailiertales.TTConstants;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Every particle emission a player should see in one tick, grouped by particle type.
+ */
+public record ParticleBatchPacket(List<Group> groups) implements CustomPacketPayload {
+	public static final Type<ParticleBatchPacket> PACKET_TYPE = new Type<>(
+		TTConstants.id("particle_batch")
+	);
+
+	public static final StreamCodec<RegistryFriendlyByteBuf, ParticleBatchPacket> CODEC = StreamCodec.ofMember(ParticleBatchPacket::write, ParticleBatchPacket::new);
+
+	public ParticleBatchPacket(@NotNull RegistryFriendlyByteBuf buf) {
+		this(Group.LIST_STREAM_CODEC.decode(buf));
+	}
+
+	public void write(@NotNull RegistryFriendlyByteBuf buf) {
+		Group.LIST_STREAM_CODEC.encode(buf, this.groups);
+	}
+
+	@NotNull
+	public Type<?> type() {
+		return PACKET_TYPE;
+	}
+
+	public record Group(ParticleOptions options, List<Emission> emissions) {
+		public static final StreamCodec<RegistryFriendlyByteBuf, List<Group>> LIST_STREAM_CODEC = StreamCodec.composite(
+			ParticleTypes.STREAM_CODEC, Group::options,
+			Emission.STREAM_CODEC.apply(ByteBufCodecs.list()), Group::emissions,
+			Group::new
+		).apply(ByteBufCodecs.list());
+	}
+
+	public record Emission(double x, double y, double z, int count, float xDist, float yDist, float zDist, float speed) {
+		public static final StreamCodec<FriendlyByteBuf, Emission> STREAM_CODEC = StreamCodec.ofMember(Emission::write, Emission::new);
+
+		public Emission(@NotNull FriendlyByteBuf buf) {
+			this(buf.readDouble(), buf.readDouble(), buf.readDouble(), buf.readVarInt(), buf.readFloat(), buf.readFloat(), buf.readFloat(), buf.readFloat());
+		}
+
+		public void write(@NotNull FriendlyByteBuf buf) {
+			buf.writeDouble(this.x);
+			buf.writeDouble(this.y);
+			buf.writeDouble(this.z);
+			buf.writeVarInt(this.count);
+			buf.writeFloat(this.xDist);
+			buf.writeFloat(this.yDist);
+			buf.writeFloat(this.zDist);
+			buf.writeFloat(this.speed);
+		}
+	}
+}
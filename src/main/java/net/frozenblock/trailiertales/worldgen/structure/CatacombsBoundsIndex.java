@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 FrozenBlock
+ * This file is part of Trailier Tales.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.trailiertales.worldgen.structure;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.frozenblock.trailiertales.registry.TTResources;
+import net.frozenblock.trailiertales.worldgen.structure.datagen.CatacombsGenerator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.BuiltinStructures;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructurePiece;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Caches the bounding boxes of every Catacombs piece overlapping a chunk, built lazily from its structure starts.
+ */
+public final class CatacombsBoundsIndex {
+	public static final byte SECTION_OUTSIDE = 0;
+	public static final byte SECTION_INSIDE = 1;
+	public static final byte SECTION_MIXED = 2;
+	private static final Map<ServerLevel, CatacombsBoundsIndex> INDICES = new IdentityHashMap<>();
+	private static final BoundingBox[] NO_PIECES = new BoundingBox[0];
+	private static final int MAX_CACHED_CHUNKS = 8192;
+
+	private final ServerLevel level;
+	private final Long2ObjectMap<BoundingBox[]> piecesByChunk = new Long2ObjectOpenHashMap<>();
+	private ResourceKey<Structure> structureKey;
+
+	private CatacombsBoundsIndex(ServerLevel level) {
+		this.level = level;
+		this.structureKey = getCatacombsKey();
+	}
+
+	public static void init() {
+		ServerChunkEvents.CHUNK_UNLOAD.register((level, chunk) -> {
+			CatacombsBoundsIndex index = INDICES.get(level);
+			if (index != null) index.piecesByChunk.remove(chunk.getPos().toLong());
+		});
+		ServerWorldEvents.UNLOAD.register((server, level) -> INDICES.remove(level));
+	}
+
+	public static @NotNull CatacombsBoundsIndex get(@NotNull ServerLevel level) {
+		return INDICES.computeIfAbsent(level, CatacombsBoundsIndex::new);
+	}
+
+	public static ResourceKey<Structure> getCatacombsKey() {
+		return TTResources.HAS_STRONGHOLD_OVERRIDE_PACK ? BuiltinStructures.STRONGHOLD : CatacombsGenerator.CATACOMBS_KEY;
+	}
+
+	public boolean isInCatacombsBounds(@NotNull BlockPos pos) {
+		for (BoundingBox box : this.getPieces(ChunkPos.asLong(pos))) {
+			if (box.isInside(pos)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the section containing {@code pos} is inside one Catacombs piece, outside all of them, or mixed.
+	 */
+	public byte getSectionCoverage(@NotNull BlockPos pos) {
+		int minX = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(pos.getX()));
+		int minY = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(pos.getY()));
+		int minZ = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(pos.getZ()));
+		int maxX = minX + SectionPos.SECTION_MAX_INDEX;
+		int maxY = minY + SectionPos.SECTION_MAX_INDEX;
+		int maxZ = minZ + SectionPos.SECTION_MAX_INDEX;
+
+		byte coverage = SECTION_OUTSIDE;
+		for (BoundingBox box : this.getPieces(ChunkPos.asLong(pos))) {
+			if (box.minX() <= minX && box.minY() <= minY && box.minZ() <= minZ && box.maxX() >= maxX && box.maxY() >= maxY && box.maxZ() >= maxZ) {
+				return SECTION_INSIDE;
+			}
+			if (box.maxX() >= minX && box.minX() <= maxX && box.maxY() >= minY && box.minY() <= maxY && box.maxZ() >= minZ && box.minZ() <= maxZ) {
+				coverage = SECTION_MIXED;
+			}
+		}
+		return coverage;
+	}
+
+	private BoundingBox[] getPieces(long chunkPos) {
+		ResourceKey<Structure> currentKey = getCatacombsKey();
+		if (currentKey != this.structureKey) {
+			this.structureKey = currentKey;
+			this.piecesByChunk.clear();
+		}
+
+		BoundingBox[] pieces = this.piecesByChunk.get(chunkPos);
+		if (pieces == null) {
+			if (this.piecesByChunk.size() >= MAX_CACHED_CHUNKS) this.piecesByChunk.clear();
+			pieces = this.collectPieces(new ChunkPos(chunkPos));
+			this.piecesByChunk.put(chunkPos, pieces);
+		}
+		return pieces;
+	}
+
+	private BoundingBox[] collectPieces(@NotNull ChunkPos chunkPos) {
+		Structure structure = this.level.registryAccess().registryOrThrow(Registries.STRUCTURE).get(this.structureKey);
+		if (structure == null) return NO_PIECES;
+
+		List<StructureStart> starts = this.level.structureManager().startsForStructure(chunkPos, candidate -> candidate == structure);
+		if (starts.isEmpty()) return NO_PIECES;
+
+		int minX = chunkPos.getMinBlockX();
+		int minZ = chunkPos.getMinBlockZ();
+		int maxX = chunkPos.getMaxBlockX();
+		int maxZ = chunkPos.getMaxBlockZ();
+		List<BoundingBox> pieces = new ObjectArrayList<>();
+		for (StructureStart start : starts) {
+			for (StructurePiece piece : start.getPieces()) {
+				BoundingBox box = piece.getBoundingBox();
+				if (box.maxX() >= minX && box.minX() <= maxX && box.maxZ() >= minZ && box.minZ() <= maxZ) {
+					pieces.add(box);
+				}
+			}
+		}
+		return pieces.isEmpty() ? NO_PIECES : pieces.toArray(BoundingBox[]::new);
+	}
+}
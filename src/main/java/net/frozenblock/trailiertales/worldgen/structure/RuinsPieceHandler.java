@@ -47,7 +47,7 @@ public class RuinsPieceHandler {
 		.put("ten_from_top", 10)
 		.build();
 
-	private final List<ResourceLocation> ruinsPieces = new ArrayList<>();
+	private volatile List<ResourceLocation> ruinsPieces = List.of();
 	private final RuinsStructure.Type type;
 
 	public RuinsPieceHandler(RuinsStructure.Type type) {
@@ -59,8 +59,7 @@ public class RuinsPieceHandler {
 	}
 
 	public void onDataReload(@NotNull ResourceManager resourceManager) {
-		this.ruinsPieces.clear();
-		this.ruinsPieces.addAll(this.getLoadedPieces(resourceManager));
+		this.ruinsPieces = List.copyOf(this.getLoadedPieces(resourceManager));
 	}
 
 	private @NotNull List<ResourceLocation> getLoadedPieces(@NotNull ResourceManager resourceManager) {
@@ -18,12 +18,12 @@
 
 package net.frozenblock.trailiertales.worldgen.structure;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 import net.frozenblock.trailiertales.registry.TTStructurePieceTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -32,7 +32,6 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.util.RandomSource;
-import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.LevelHeightAccessor;
 import net.minecraft.world.level.ServerLevelAccessor;
@@ -64,12 +63,13 @@ public class RuinsPieces {
 		Rotation rotation,
 		@NotNull RandomSource random,
 		@NotNull RuinsStructure feature,
+		Optional<Integer> providedHeight,
 		List<RuinsPieces.RuinPiece> pieces,
 		BoundingBox box
 	) {
-		RuinPiece ruinPiece = addStarterPiece(structureTemplateManager, pos, rotation, pieces, random, feature);
+		RuinPiece ruinPiece = addStarterPiece(structureTemplateManager, pos, rotation, pieces, random, feature, providedHeight);
 		if (random.nextFloat() <= feature.clusterProbability) {
-			addClusterRuins(structureTemplateManager, ruinPiece.getBoundingBox(), random, pos, feature, pieces, box);
+			addClusterRuins(structureTemplateManager, ruinPiece.getBoundingBox(), random, pos, feature, providedHeight, pieces, box);
 		}
 	}
 
@@ -79,26 +79,28 @@ public class RuinsPieces {
 		RandomSource random,
 		@NotNull BlockPos pos,
 		@NotNull RuinsStructure feature,
+		Optional<Integer> providedHeight,
 		@NotNull List<RuinsPieces.RuinPiece> pieces,
 		BoundingBox box
 	) {
-		ObjectArrayList<BoundingBox> boundingBoxes = new ObjectArrayList<>();
-		boundingBoxes.add(boundingBox);
+		PlacedBoxes placedBoxes = new PlacedBoxes();
+		placedBoxes.add(boundingBox);
 		int totalPieces = feature.clusterPieces.sample(random);
 		for (int pieceNumber = 0; pieceNumber < totalPieces; pieceNumber++) {
 			Rotation newRotation = Rotation.getRandom(random);
-			addPiece(structureTemplateManager, boundingBoxes, pos, newRotation, pieces, random, feature, box, 7);
+			addPiece(structureTemplateManager, placedBoxes, pos, newRotation, pieces, random, feature, providedHeight, box, 7);
 		}
 	}
 
 	private static @Nullable RuinPiece addPiece(
 		StructureTemplateManager structureTemplateManager,
-		ObjectArrayList<BoundingBox> boundingBoxes,
+		PlacedBoxes placedBoxes,
 		@NotNull BlockPos pos,
 		Rotation rotation,
 		@NotNull List<RuinsPieces.RuinPiece> pieces,
 		RandomSource random,
 		@NotNull RuinsStructure structure,
+		Optional<Integer> providedHeight,
 		BoundingBox box,
 		int maxAttempts
 	) {
@@ -117,43 +119,39 @@ public class RuinsPieces {
 				rotation,
 				structure.ruinsType,
 				structure.heightmap,
-				structure.providedHeight
+				providedHeight
 			);
 			BoundingBox currentBox = potentialPiece.getBoundingBox();
-			AtomicReference<BoundingBox> inflatedBox = new AtomicReference<>(currentBox.inflatedBy(2));
-			List<BoundingBox> shuffledBoxes = Util.shuffledCopy(boundingBoxes, random);
-			AtomicBoolean intersected = new AtomicBoolean(false);
-
-			shuffledBoxes.forEach(boundingBox -> {
-				AtomicBoolean withinBox = new AtomicBoolean(true);
-				inflatedBox.get().inflatedBy(-2).forAllCorners(
-					cornerPos -> {
-						if (!box.isInside(cornerPos)) {
-							withinBox.set(false);
-						}
+			BoundingBox inflatedBox = currentBox.inflatedBy(2);
+			// The shuffle is always drawn so the random sequence, and with it the generated layout, stays the same.
+			ObjectArrayList<BoundingBox> shuffledBoxes = Util.shuffledCopy(placedBoxes.boxes, random);
+			boolean withinBox = isInside(box, currentBox);
+			boolean intersected = false;
+
+			if (!withinBox || placedBoxes.intersectsAny(inflatedBox)) {
+				for (BoundingBox boundingBox : shuffledBoxes) {
+					if (!withinBox || boundingBox.intersects(inflatedBox)) {
+						intersected = true;
+						BlockPos center = boundingBox.getCenter();
+						boolean useXSpan = random.nextBoolean();
+						boolean useZSpan = !useXSpan || random.nextBoolean();
+						int xDirection = random.nextBoolean() ? 1 : -1;
+						int zDirection = random.nextBoolean() ? 1 : -1;
+						double xSpanScale = useXSpan ? 0.5D : 0.1D;
+						double zSpanScale = useZSpan ? 0.5D : 0.1D;
+						int xStep = (int) ((boundingBox.getXSpan() * xSpanScale) + (currentBox.getXSpan() * xSpanScale) + random.nextInt(0, 6));
+						int zStep = (int) ((boundingBox.getZSpan() * zSpanScale) + (currentBox.getZSpan() * zSpanScale) + random.nextInt(0, 6));
+						mutableBlockPos.set(center).move(xStep * xDirection, 0, zStep * zDirection);
+						inflatedBox = inflatedBox.moved(xStep * xDirection, 0, zStep * zDirection);
+						withinBox = isInside(box, inflatedBox.inflatedBy(-2));
 					}
-				);
-
-				if (boundingBox.intersects(inflatedBox.get()) || !withinBox.get()) {
-					intersected.set(true);
-					BlockPos center = boundingBox.getCenter();
-					boolean useXSpan = random.nextBoolean();
-					boolean useZSpan = !useXSpan || random.nextBoolean();
-					int xDirection = random.nextBoolean() ? 1 : -1;
-					int zDirection = random.nextBoolean() ? 1 : -1;
-					double xSpanScale = useXSpan ? 0.5D : 0.1D;
-					double zSpanScale = useZSpan ? 0.5D : 0.1D;
-					int xStep = (int) ((boundingBox.getXSpan() * xSpanScale) + (currentBox.getXSpan() * xSpanScale) + random.nextInt(0, 6));
-					int zStep = (int) ((boundingBox.getZSpan() * zSpanScale) + (currentBox.getZSpan() * zSpanScale) + random.nextInt(0, 6));
-					mutableBlockPos.set(center).move(xStep * xDirection, 0, zStep * zDirection);
-					inflatedBox.set(inflatedBox.get().moved(xStep * xDirection, 0, zStep * zDirection));
 				}
-			});
+			}
 
-			if (!intersected.get()) {
+			if (!intersected) {
 				ruinPiece = potentialPiece;
 				pieces.add(ruinPiece);
-				boundingBoxes.add(ruinPiece.getBoundingBox());
+				placedBoxes.add(ruinPiece.getBoundingBox());
 				break;
 			}
 		}
@@ -167,7 +165,8 @@ public class RuinsPieces {
 		Rotation rotation,
 		@NotNull List<RuinsPieces.RuinPiece> pieces,
 		RandomSource random,
-		@NotNull RuinsStructure structure
+		@NotNull RuinsStructure structure,
+		Optional<Integer> providedHeight
 	) {
 		ResourceLocation structureId = structure.ruinsType.getPieceHandler().getRandomPiece(random);
 		RuinPiece piece = new RuinPiece(
@@ -177,12 +176,48 @@ public class RuinsPieces {
 			rotation,
 			structure.ruinsType,
 			structure.heightmap,
-			structure.providedHeight
+			providedHeight
 		);
 		pieces.add(piece);
 		return piece;
 	}
 
+	private static boolean isInside(@NotNull BoundingBox box, @NotNull BoundingBox innerBox) {
+		return box.isInside(innerBox.minX(), innerBox.minY(), innerBox.minZ())
+			&& box.isInside(innerBox.maxX(), innerBox.maxY(), innerBox.maxZ());
+	}
+
+	/**
+	 * The bounding boxes placed so far by one structure start, bucketed into 16x16 columns.
+	 */
+	private static final class PlacedBoxes {
+		private static final int CELL_SHIFT = 4;
+		private final ObjectArrayList<BoundingBox> boxes = new ObjectArrayList<>();
+		private final Long2ObjectMap<List<BoundingBox>> boxesByCell = new Long2ObjectOpenHashMap<>();
+
+		private void add(@NotNull BoundingBox box) {
+			this.boxes.add(box);
+			for (int cellX = box.minX() >> CELL_SHIFT; cellX <= box.maxX() >> CELL_SHIFT; cellX++) {
+				for (int cellZ = box.minZ() >> CELL_SHIFT; cellZ <= box.maxZ() >> CELL_SHIFT; cellZ++) {
+					this.boxesByCell.computeIfAbsent(ChunkPos.asLong(cellX, cellZ), unused -> new ObjectArrayList<>()).add(box);
+				}
+			}
+		}
+
+		private boolean intersectsAny(@NotNull BoundingBox box) {
+			for (int cellX = box.minX() >> CELL_SHIFT; cellX <= box.maxX() >> CELL_SHIFT; cellX++) {
+				for (int cellZ = box.minZ() >> CELL_SHIFT; cellZ <= box.maxZ() >> CELL_SHIFT; cellZ++) {
+					List<BoundingBox> cellBoxes = this.boxesByCell.get(ChunkPos.asLong(cellX, cellZ));
+					if (cellBoxes == null) continue;
+					for (BoundingBox placedBox : cellBoxes) {
+						if (placedBox.intersects(box)) return true;
+					}
+				}
+			}
+			return false;
+		}
+	}
+
 	public static class RuinPiece extends TemplateStructurePiece {
 		private final RuinsStructure.Type ruinsType;
 		public final Optional<Heightmap.Types> heightmap;
@@ -351,26 +386,15 @@ public class RuinsPieces {
 			return this.providedHeight.get() + (random.nextInt(providerOffset) * (random.nextBoolean() ? 1 : -1));
 		}
 
-		private int getFinalHeight(@NotNull BlockPos start, BlockGetter world, BlockPos end) {
+		private int getFinalHeight(@NotNull BlockPos start, WorldGenLevel world, BlockPos end) {
 			int i = start.getY();
 			int j = 512;
 			int k = i - 1;
 			int l = 0;
+			BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
 
 			for (BlockPos blockPos : BlockPos.betweenClosed(start, end)) {
-				int m = blockPos.getX();
-				int n = blockPos.getZ();
-				int o = start.getY() - 1;
-				BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos(m, o, n);
-				BlockState blockState = world.getBlockState(mutableBlockPos);
-
-				for (FluidState fluidState = world.getFluidState(mutableBlockPos);
-					 (blockState.isAir() || fluidState.is(FluidTags.WATER) || blockState.is(BlockTags.ICE)) && o > world.getMinBuildHeight() + 1;
-					 fluidState = world.getFluidState(mutableBlockPos)
-				) {
-					mutableBlockPos.set(m, --o, n);
-					blockState = world.getBlockState(mutableBlockPos);
-				}
+				int o = getColumnFloor(world, blockPos.getX(), start.getY() - 1, blockPos.getZ(), mutableBlockPos);
 
 				j = Math.min(j, o);
 				if (o < k - 2) {
@@ -385,5 +409,36 @@ public class RuinsPieces {
 
 			return i;
 		}
+
+		/**
+		 * Finds the first block at or below {@code startY} that isn't air, water, or ice.
+		 */
+		private static int getColumnFloor(@NotNull WorldGenLevel world, int x, int startY, int z, BlockPos.MutableBlockPos mutableBlockPos) {
+			int minY = world.getMinBuildHeight() + 1;
+			// The live heightmaps track blocks placed by earlier features; when both agree, everything above the floor is air.
+			int floorY = world.getHeight(Heightmap.Types.OCEAN_FLOOR, x, z) - 1;
+			if (floorY <= startY && floorY > minY && world.getHeight(Heightmap.Types.WORLD_SURFACE, x, z) - 1 == floorY) {
+				mutableBlockPos.set(x, floorY, z);
+				if (!isSkippedWhenFindingFloor(world.getBlockState(mutableBlockPos), world.getFluidState(mutableBlockPos))) {
+					return floorY;
+				}
+			}
+
+			int y = startY;
+			mutableBlockPos.set(x, y, z);
+			BlockState blockState = world.getBlockState(mutableBlockPos);
+			for (FluidState fluidState = world.getFluidState(mutableBlockPos);
+				 isSkippedWhenFindingFloor(blockState, fluidState) && y > minY;
+				 fluidState = world.getFluidState(mutableBlockPos)
+			) {
+				mutableBlockPos.set(x, --y, z);
+				blockState = world.getBlockState(mutableBlockPos);
+			}
+			return y;
+		}
+
+		private static boolean isSkippedWhenFindingFloor(@NotNull BlockState blockState, @NotNull FluidState fluidState) {
+			return blockState.isAir() || fluidState.is(FluidTags.WATER) || blockState.is(BlockTags.ICE);
+		}
 	}
 }
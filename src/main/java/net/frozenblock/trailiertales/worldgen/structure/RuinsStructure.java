@@ -68,7 +68,6 @@ public class RuinsStructure extends Structure {
 	public final UniformInt clusterPieces;
 	public final Optional<Heightmap.Types> heightmap;
 	public final Optional<HeightProvider> heightProvider;
-	public Optional<Integer> providedHeight = Optional.empty();
 
 	private RuinsStructure(
 		Structure.StructureSettings settings,
@@ -117,9 +116,14 @@ public class RuinsStructure extends Structure {
 			return chunkGenerator.getFirstOccupiedHeight(pos.getX(), pos.getZ(), heightmapType, heightAccessor, context.randomState());
 		}
 		WorldGenerationContext worldGenerationContext = new WorldGenerationContext(chunkGenerator, heightAccessor);
-		int y = this.heightProvider.get().sample(context.random().forkPositional().at(pos), worldGenerationContext);
-		this.providedHeight = Optional.of(y);
-		return y;
+		return this.heightProvider.get().sample(context.random().forkPositional().at(pos), worldGenerationContext);
+	}
+
+	/**
+	 * Whether the start height comes from {@link #heightProvider} rather than a heightmap.
+	 */
+	public boolean usesHeightProvider() {
+		return this.heightmap.isEmpty() && this.heightProvider.isPresent();
 	}
 
 	@Override
@@ -129,11 +133,16 @@ public class RuinsStructure extends Structure {
 		int z = chunkPos.getMiddleBlockZ();
 		int y = this.getHeight(new BlockPos(x, 0, z), context);
 		BlockPos startPos = new BlockPos(x, y, z);
-		return Optional.of(new Structure.GenerationStub(startPos, this.generatePieces(startPos, context)));
+		Optional<Integer> providedHeight = this.usesHeightProvider() ? Optional.of(y) : Optional.empty();
+		return Optional.of(new Structure.GenerationStub(startPos, this.generatePieces(startPos, providedHeight, context)));
 	}
 
 	@Contract(pure = true)
-	private @NotNull Consumer<StructurePiecesBuilder> generatePieces(BlockPos startPos, Structure.@NotNull GenerationContext context) {
+	private @NotNull Consumer<StructurePiecesBuilder> generatePieces(
+		BlockPos startPos,
+		Optional<Integer> providedHeight,
+		Structure.@NotNull GenerationContext context
+	) {
 		return structurePiecesBuilder -> {
 			List<RuinsPieces.RuinPiece> list = Lists.newArrayList();
 			int x = startPos.getX();
@@ -155,6 +164,7 @@ public class RuinsStructure extends Structure {
 					Rotation.getRandom(context.random()),
 					context.random(),
 					this,
+					providedHeight,
 					list,
 					box
 				);